@@ -0,0 +1,108 @@
+package com.villanidev.atsmatchingengine.benchmark;
+
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.domain.TextRelevanceStrategy;
+import com.villanidev.atsmatchingengine.matching.MatchingEngine;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.scoring.MatchingScoringService;
+import com.villanidev.atsmatchingengine.matching.scoring.ScoringContext;
+import com.villanidev.atsmatchingengine.matching.scoring.SkillCoverageCalculator;
+import com.villanidev.atsmatchingengine.matching.scoring.SoftSkillScorer;
+import com.villanidev.atsmatchingengine.matching.scoring.TextRelevanceScorer;
+import com.villanidev.atsmatchingengine.matching.sections.CvSectionsBuilder;
+import com.villanidev.atsmatchingengine.rendering.OutputRenderer;
+import com.villanidev.atsmatchingengine.templates.TemplateRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Add -prof gc to jmh.args for allocation rate (gc.alloc.rate.norm is bytes per operation).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class MatchingBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "SENIOR"})
+    public SyntheticData.CvSize size;
+
+    private final MatchingScoringService scoringService = new MatchingScoringService();
+    private final TextRelevanceScorer textRelevanceScorer = new TextRelevanceScorer();
+    private final SkillCoverageCalculator coverageCalculator = new SkillCoverageCalculator();
+    private final SoftSkillScorer softSkillScorer = new SoftSkillScorer();
+    private final CvSectionsBuilder sectionsBuilder = new CvSectionsBuilder();
+    private final TemplateRegistry templateRegistry = new TemplateRegistry(null);
+    private final OutputRenderer outputRenderer = new OutputRenderer(templateRegistry, new SimpleMeterRegistry());
+    private final Options options = new Options();
+
+    private MatchProfile profile;
+    private Job job;
+    private JobProfile jobProfile;
+    private CvGenerated generated;
+
+    @Setup
+    public void setUp() {
+        profile = MatchProfile.of(SyntheticData.cv(size, 42L));
+        job = SyntheticData.job(7L);
+        jobProfile = JobProfile.of(job);
+        generated = new MatchingEngine(templateRegistry, null, new SimpleMeterRegistry()).generateCv(profile, job, options, null);
+    }
+
+    @Benchmark
+    public MatchProfile buildProfile() {
+        return MatchProfile.of(profile.getCvMaster());
+    }
+
+    @Benchmark
+    public CvGenerated.Meta buildMeta() {
+        return scoringService.buildMeta(profile, jobProfile, options, 0.5);
+    }
+
+    @Benchmark
+    public double textRelevanceBm25() {
+        return textRelevanceScorer.computeTextRelevanceScore(profile, job, TextRelevanceStrategy.BM25);
+    }
+
+    @Benchmark
+    public double textRelevanceTfidf() {
+        return textRelevanceScorer.computeTextRelevanceScore(profile, job, TextRelevanceStrategy.TFIDF);
+    }
+
+    @Benchmark
+    public double skillCoverage() {
+        int[] mustHave = jobProfile.getRequirementIds().getMustHaveSkillIds();
+        return coverageCalculator.computeCoverage(profile.countSkillMatches(mustHave), mustHave);
+    }
+
+    @Benchmark
+    public double softSkills() {
+        return softSkillScorer.computeSoftSkillScore(profile, job);
+    }
+
+    @Benchmark
+    public List<CvGenerated.ExperienceSection> buildSections() {
+        ScoringContext context = scoringService.newContext(profile, jobProfile);
+        sectionsBuilder.buildSkillsSection(context);
+        return sectionsBuilder.buildExperienceSection(context, options);
+    }
+
+    @Benchmark
+    public CvGenerated.Output renderMarkdown() {
+        return outputRenderer.buildOutput(generated, options);
+    }
+}
@@ -0,0 +1,161 @@
+package com.villanidev.atsmatchingengine.benchmark;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class SyntheticData {
+
+    public enum CvSize {
+        SMALL(2, 2, 8),
+        TYPICAL(6, 3, 20),
+        SENIOR(40, 4, 60);
+
+        final int experiences;
+        final int projectsPerExperience;
+        final int skills;
+
+        CvSize(int experiences, int projectsPerExperience, int skills) {
+            this.experiences = experiences;
+            this.projectsPerExperience = projectsPerExperience;
+            this.skills = skills;
+        }
+    }
+
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "Kotlin", "PostgreSQL", "Kafka", "Redis", "Docker", "Kubernetes", "AWS", "GCP",
+            "Terraform", "Python", "Go", "TypeScript", "React", "GraphQL", "gRPC", "Elasticsearch", "Lucene", "Hibernate",
+            "RabbitMQ", "MongoDB", "Cassandra", "Spark", "Flink", "Airflow", "Snowflake", "dbt", "Jenkins", "GitHub Actions",
+            "Prometheus", "Grafana", "OpenTelemetry", "Linux", "Nginx", "Istio", "Helm", "Scala", "Rust", "C++",
+            "Node.js", "Vue", "Angular", "Microservices", "REST", "OAuth2", "JUnit", "Mockito", "Gradle", "Maven",
+            "Git", "Jira", "SQL", "NoSQL", "Event Sourcing", "CQRS", "DDD", "TDD", "CI/CD", "Azure"
+    };
+    private static final String[] DOMAINS = {"Finance", "E-commerce", "Healthcare", "Logistics", "Media", "Travel"};
+    private static final String[] SOFT_SKILLS = {"leadership", "communication", "mentoring", "ownership", "collaboration"};
+    private static final String[] VERBS = {"Designed", "Implemented", "Migrated", "Optimized", "Led", "Automated", "Scaled"};
+    private static final String[] OBJECTS = {
+            "payment processing pipeline", "search relevance service", "event driven order platform",
+            "customer analytics warehouse", "internal developer platform", "real time pricing engine"
+    };
+
+    private SyntheticData() {
+    }
+
+    public static CvMaster cv(CvSize size, long seed) {
+        Random random = new Random(seed);
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setName("Candidate " + seed);
+        cvMaster.setTitle("Senior Software Engineer");
+        cvMaster.setEmail("candidate" + seed + "@example.com");
+        cvMaster.setLocation("Lisbon, Portugal");
+        cvMaster.setSummary(List.of(
+                "Backend engineer with a focus on distributed systems and data intensive products.",
+                "Known for " + pick(random, SOFT_SKILLS) + " and " + pick(random, SOFT_SKILLS) + " across teams."));
+
+        List<CvMaster.Skill> skills = new ArrayList<>();
+        for (int i = 0; i < size.skills; i++) {
+            CvMaster.Skill skill = new CvMaster.Skill();
+            skill.setName(SKILLS[i % SKILLS.length]);
+            skill.setLevel(i % 3 == 0 ? "expert" : "advanced");
+            skills.add(skill);
+        }
+        cvMaster.setSkills(skills);
+        cvMaster.setDomains(List.of(pick(random, DOMAINS), pick(random, DOMAINS)));
+
+        List<CvMaster.Experience> experiences = new ArrayList<>();
+        int endYear = 2025;
+        for (int i = 0; i < size.experiences; i++) {
+            CvMaster.Experience experience = new CvMaster.Experience();
+            experience.setCompany("Company " + i);
+            experience.setTitle(i == 0 ? "Staff Engineer" : "Software Engineer");
+            experience.setCountry("Portugal");
+            int startYear = endYear - 1 - random.nextInt(2);
+            experience.setStart(startYear + "-0" + (1 + random.nextInt(9)));
+            experience.setEnd(i == 0 ? "present" : endYear + "-0" + (1 + random.nextInt(9)));
+            endYear = startYear;
+
+            List<CvMaster.Project> projects = new ArrayList<>();
+            for (int p = 0; p < size.projectsPerExperience; p++) {
+                projects.add(project(random));
+            }
+            experience.setProjects(projects);
+            experiences.add(experience);
+        }
+        cvMaster.setExperiences(experiences);
+
+        CvMaster.Education education = new CvMaster.Education();
+        education.setDegree("MSc Computer Science");
+        education.setInstitution("University of Lisbon");
+        education.setCountry("Portugal");
+        education.setStart("2008");
+        education.setEnd("2013");
+        cvMaster.setEducation(List.of(education));
+
+        CvMaster.Language english = new CvMaster.Language();
+        english.setName("English");
+        english.setLevel("fluent");
+        cvMaster.setLanguages(List.of(english));
+        return cvMaster;
+    }
+
+    public static Job job(long seed) {
+        Random random = new Random(seed);
+        Job job = new Job();
+        job.setId("job-" + seed);
+        job.setTitle("Senior Backend Engineer");
+        job.setLocation("Remote");
+        job.setSeniority("senior");
+        job.setRawDescription("We are looking for a senior backend engineer to build an "
+                + pick(random, OBJECTS) + " using " + pick(random, SKILLS) + " and " + pick(random, SKILLS)
+                + ". You will own services end to end, mentor engineers and work closely with product.");
+
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setYearsOfExperience(6);
+        requirements.setMustHaveSkills(pickDistinct(random, SKILLS, 5));
+        requirements.setNiceToHaveSkills(pickDistinct(random, SKILLS, 5));
+        requirements.setTools(pickDistinct(random, SKILLS, 3));
+        requirements.setDomains(List.of(pick(random, DOMAINS)));
+        job.setRequirements(requirements);
+
+        job.setResponsibilities(List.of(
+                "Design and operate scalable " + pick(random, OBJECTS),
+                "Mentor engineers and drive technical decisions",
+                "Improve reliability and observability of production systems"));
+        job.setSoftSkills(pickDistinct(random, SOFT_SKILLS, 3));
+        return job;
+    }
+
+    private static CvMaster.Project project(Random random) {
+        CvMaster.Project project = new CvMaster.Project();
+        String object = pick(random, OBJECTS);
+        project.setName(object);
+        project.setSituation("The " + object + " could not keep up with growing traffic.");
+        project.setTask("Rebuild the " + object + " for reliability and throughput.");
+        project.setActions(List.of(
+                pick(random, VERBS) + " the " + object + " with " + pick(random, SKILLS),
+                pick(random, VERBS) + " deployments using " + pick(random, SKILLS),
+                "Drove " + pick(random, SOFT_SKILLS) + " across three teams"));
+        project.setResult("Cut p99 latency by " + (20 + random.nextInt(60)) + "% and halved infrastructure cost.");
+        project.setTechStack(pickDistinct(random, SKILLS, 4));
+        project.setDomains(List.of(pick(random, DOMAINS)));
+        return project;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<String> pickDistinct(Random random, String[] values, int count) {
+        List<String> picked = new ArrayList<>(count);
+        while (picked.size() < count) {
+            String value = pick(random, values);
+            if (!picked.contains(value)) {
+                picked.add(value);
+            }
+        }
+        return picked;
+    }
+}
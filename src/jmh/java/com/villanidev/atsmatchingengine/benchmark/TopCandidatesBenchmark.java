@@ -0,0 +1,97 @@
+package com.villanidev.atsmatchingengine.benchmark;
+
+import com.villanidev.atsmatchingengine.cv.JobTopCandidateService;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.matching.index.CvSkillIndex;
+import com.villanidev.atsmatchingengine.matching.index.CvTextIndex;
+import com.villanidev.atsmatchingengine.matching.profile.CvProfileStore;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfileCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Sample mode reports p50/p90/p99 per /api/jobs/{id}/top-candidates call over the resident corpus.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TopCandidatesBenchmark {
+
+    @Param({"10000"})
+    public int cvs;
+
+    @Param({"TYPICAL"})
+    public SyntheticData.CvSize size;
+
+    @Param({"false", "true"})
+    public boolean prefilter;
+
+    private final Options options = new Options();
+    private ExecutorService executor;
+    private JobTopCandidateService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CvProfileStore store = new CvProfileStore(cvs);
+        CvSkillIndex skillIndex = new CvSkillIndex();
+        CvTextIndex textIndex = new CvTextIndex();
+        for (long id = 1; id <= cvs; id++) {
+            CvMaster cv = SyntheticData.cv(size, id);
+            store.index(id, cv);
+            skillIndex.index(id, cv);
+            textIndex.index(id, cv);
+        }
+
+        JobPostingNormalized posting = new JobPostingNormalized();
+        posting.setId(1L);
+        JobPostingNormalizedRepository jobRepository = mock(JobPostingNormalizedRepository.class);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(posting));
+        JobProfileCache jobProfileCache = mock(JobProfileCache.class);
+        when(jobProfileCache.get(any())).thenReturn(JobProfile.of(SyntheticData.job(7L)));
+
+        CvMasterStoreService cvMasterStoreService = mock(CvMasterStoreService.class);
+        when(cvMasterStoreService.listIds()).thenReturn(LongStream.rangeClosed(1, cvs).boxed().toList());
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        service = new JobTopCandidateService(cvMasterStoreService, jobRepository, jobProfileCache, store, skillIndex,
+                textIndex, executor, new SimpleMeterRegistry(), 0, 0, 200);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public JobTopCandidateService.TopCandidateResult topCandidates() {
+        return service.topCandidates(1L, options, 20, prefilter).orElseThrow();
+    }
+}
@@ -0,0 +1,144 @@
+package com.villanidev.atsmatchingengine.benchmark.elt;
+
+import com.villanidev.atsmatchingengine.AtsMatchingEngineApplication;
+import com.villanidev.atsmatchingengine.benchmark.SyntheticData;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.elt.EltPipelineService;
+import com.villanidev.atsmatchingengine.elt.EltStage;
+import com.villanidev.atsmatchingengine.elt.EltStageListener;
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecution;
+import com.villanidev.atsmatchingengine.elt.scraping.PortalConfig;
+import com.villanidev.atsmatchingengine.elt.scraping.PortalConfigRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// End-to-end ELT run against StubPortalServer; prints items/sec per stage for each run.
+// Options: --jobs=500 (per portal) --latency-ms=50 --cvs=20 --runs=3 --jdbc-url=... --jdbc-user= --jdbc-password=
+// --changed-percent=10 re-scrapes the same postings after the first run, editing that share of them each run.
+public class EltThroughputBenchmark {
+
+    private static final List<String> PORTALS = List.of("greenhouse", "ashby", "breezy");
+    private static final String H2_URL = "jdbc:h2:mem:eltbench;DB_CLOSE_DELAY=-1;"
+            + "INIT=CREATE DOMAIN IF NOT EXISTS TSVECTOR AS VARCHAR";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int jobs = Integer.parseInt(options.getOrDefault("jobs", "500"));
+        int latencyMs = Integer.parseInt(options.getOrDefault("latency-ms", "50"));
+        int cvs = Integer.parseInt(options.getOrDefault("cvs", "20"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        String jdbcUrl = options.getOrDefault("jdbc-url", H2_URL);
+        boolean h2 = jdbcUrl.startsWith("jdbc:h2:");
+        int changedPercent = Integer.parseInt(options.getOrDefault("changed-percent", "-1"));
+        boolean rescrape = changedPercent >= 0;
+
+        StageRecorder recorder = new StageRecorder();
+        try (StubPortalServer stub = new StubPortalServer(jobs, latencyMs, Math.max(changedPercent, 0))) {
+            stub.start();
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("spring.datasource.url", jdbcUrl);
+            properties.put("spring.datasource.driver-class-name", h2 ? "org.h2.Driver" : "org.postgresql.Driver");
+            properties.put("spring.datasource.username", options.getOrDefault("jdbc-user", h2 ? "sa" : "ats"));
+            properties.put("spring.datasource.password", options.getOrDefault("jdbc-password", h2 ? "" : "ats"));
+            properties.put("elt.scheduler.enabled", "false");
+            properties.put("elt.matching.auto.limit", String.valueOf(jobs * PORTALS.size()));
+            properties.put("artifacts.storage.directory", Files.createTempDirectory("elt-bench").toString());
+            properties.put("server.port", "0");
+            properties.put("logging.level.root", "WARN");
+            properties.put("logging.level.org.apache.pdfbox", "ERROR");
+            for (String portal : PORTALS) {
+                properties.put("elt.scraping." + portal + ".api-base-url", stub.baseUrl(portal));
+            }
+
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AtsMatchingEngineApplication.class)
+                    .initializers(ctx -> ctx.getBeanFactory().registerSingleton("eltStageRecorder", recorder))
+                    .run(asArguments(properties))) {
+                seedPortals(context.getBean(PortalConfigRepository.class));
+                CvMasterStoreService cvStore = context.getBean(CvMasterStoreService.class);
+                for (int i = 0; i < cvs; i++) {
+                    cvStore.save(SyntheticData.cv(SyntheticData.CvSize.TYPICAL, i));
+                }
+
+                EltPipelineService pipeline = context.getBean(EltPipelineService.class);
+                System.out.printf("portals=%d jobsPerPortal=%d latencyMs=%d cvs=%d db=%s%n",
+                        PORTALS.size(), jobs, latencyMs, cvs, h2 ? "h2" : jdbcUrl);
+                for (int run = 1; run <= runs; run++) {
+                    if (rescrape && run > 1) {
+                        stub.nextRevision();
+                    } else {
+                        stub.nextGeneration();
+                    }
+                    recorder.reset();
+                    pipeline.runScheduled();
+                    recorder.print(run);
+                }
+            }
+        }
+    }
+
+    private static void seedPortals(PortalConfigRepository repository) {
+        Map<String, String> listingUrls = Map.of(
+                "greenhouse", "https://job-boards.greenhouse.io/bench",
+                "ashby", "https://jobs.ashbyhq.com/bench",
+                "breezy", "https://bench.breezy.hr/");
+        for (String portal : PORTALS) {
+            PortalConfig config = repository.findByPortalIdIgnoreCase(portal).orElseGet(PortalConfig::new);
+            config.setPortalId(portal);
+            config.setEnabled(true);
+            config.setListingUrl(listingUrls.get(portal));
+            config.setMaxRetries(0);
+            repository.save(config);
+        }
+    }
+
+    // Command line arguments so they take precedence over application.properties.
+    private static String[] asArguments(Map<String, Object> properties) {
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    static class StageRecorder implements EltStageListener {
+
+        private final Map<EltStage, long[]> stages = new EnumMap<>(EltStage.class);
+
+        @Override
+        public synchronized void onStageCompleted(EltExecution execution, EltStage stage, int items, Duration duration) {
+            stages.put(stage, new long[]{items, duration.toNanos()});
+        }
+
+        synchronized void reset() {
+            stages.clear();
+        }
+
+        synchronized void print(int run) {
+            long totalNanos = 0;
+            for (Map.Entry<EltStage, long[]> entry : stages.entrySet()) {
+                long items = entry.getValue()[0];
+                long nanos = entry.getValue()[1];
+                totalNanos += nanos;
+                System.out.printf("run=%d stage=%-9s items=%7d ms=%8.1f items/s=%10.1f%n",
+                        run, entry.getKey(), items, nanos / 1e6, nanos > 0 ? items / (nanos / 1e9) : 0.0);
+            }
+            System.out.printf("run=%d total ms=%.1f%n", run, totalNanos / 1e6);
+        }
+    }
+}
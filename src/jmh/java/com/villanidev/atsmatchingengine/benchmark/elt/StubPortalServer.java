@@ -0,0 +1,131 @@
+package com.villanidev.atsmatchingengine.benchmark.elt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.villanidev.atsmatchingengine.benchmark.SyntheticData;
+import com.villanidev.atsmatchingengine.domain.Job;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Serves synthetic listings in the Greenhouse, Ashby and Breezy JSON shapes the scrapers and normalizer read.
+public class StubPortalServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicInteger revision = new AtomicInteger();
+    private final int jobsPerPortal;
+    private final int latencyMs;
+    private final int changedPercent;
+    private HttpServer server;
+
+    public StubPortalServer(int jobsPerPortal, int latencyMs) {
+        this(jobsPerPortal, latencyMs, 0);
+    }
+
+    public StubPortalServer(int jobsPerPortal, int latencyMs, int changedPercent) {
+        this.jobsPerPortal = jobsPerPortal;
+        this.latencyMs = latencyMs;
+        this.changedPercent = changedPercent;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/greenhouse/", exchange -> respond(exchange, "greenhouse"));
+        server.createContext("/ashby/", exchange -> respond(exchange, "ashby"));
+        server.createContext("/breezy/", exchange -> respond(exchange, "breezy"));
+        server.start();
+    }
+
+    public String baseUrl(String portal) {
+        String base = "http://127.0.0.1:" + server.getAddress().getPort() + "/" + portal;
+        return "breezy".equals(portal) ? base + "/{slug}" : base;
+    }
+
+    // Each generation serves new external ids so the next pipeline run loads instead of deduplicating.
+    public int nextGeneration() {
+        return generation.incrementAndGet();
+    }
+
+    // A revision keeps the ids but edits the description of changedPercent of the postings.
+    public int nextRevision() {
+        return revision.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void respond(HttpExchange exchange, String portal) throws IOException {
+        try {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            byte[] body = objectMapper.writeValueAsBytes(listing(portal, generation.get()));
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ObjectNode listing(String portal, int gen) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode jobs = root.putArray("jobs");
+        for (int i = 0; i < jobsPerPortal; i++) {
+            long id = gen * 1_000_000L + i;
+            Job job = SyntheticData.job(id);
+            String description = "<p>" + job.getRawDescription() + "</p><ul>"
+                    + "<li>Must have: " + String.join(", ", job.getRequirements().getMustHaveSkills()) + "</li>"
+                    + "<li>Nice to have: " + String.join(", ", job.getRequirements().getNiceToHaveSkills()) + "</li>"
+                    + "<li>Tools: " + String.join(", ", job.getRequirements().getTools()) + "</li>"
+                    + "<li>Domain: " + String.join(", ", job.getRequirements().getDomains()) + "</li></ul>";
+            int rev = revision.get();
+            if (rev > 0 && i % 100 < changedPercent) {
+                description += "<p>Revision " + rev + "</p>";
+            }
+            ObjectNode node = jobs.addObject();
+            node.put("id", portal + "-" + id);
+            switch (portal) {
+                case "greenhouse" -> {
+                    node.put("title", job.getTitle());
+                    node.put("absolute_url", "https://job-boards.greenhouse.io/bench/jobs/" + id);
+                    node.put("content", description);
+                    node.putObject("location").put("name", job.getLocation());
+                    node.put("company", "Bench Co");
+                }
+                case "ashby" -> {
+                    node.put("title", job.getTitle());
+                    node.put("jobUrl", "https://jobs.ashbyhq.com/bench/" + id);
+                    node.put("descriptionHtml", description);
+                    node.put("location", job.getLocation());
+                    node.put("companyName", "Bench Co");
+                }
+                default -> {
+                    node.put("name", job.getTitle());
+                    node.put("url", "https://bench.breezy.hr/p/" + id);
+                    node.put("description", description);
+                    node.put("location", job.getLocation());
+                    node.put("company", "Bench Co");
+                }
+            }
+        }
+        return root;
+    }
+}
@@ -0,0 +1,50 @@
+package com.villanidev.atsmatchingengine.rendering;
+
+import com.villanidev.atsmatchingengine.templates.TemplateRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// Single-threaded throughput is documents/sec/core; run with -t N to measure scaling.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class PdfRenderBenchmark {
+
+    private final OutputRenderer renderer = new OutputRenderer(new TemplateRegistry(null), new SimpleMeterRegistry());
+    private String markdown;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("# Jane Doe\n\nSenior Backend Engineer\n\n---\n\n## Summary\n");
+        builder.append("Backend engineer focused on **distributed systems**, data pipelines and search relevance. ".repeat(4))
+                .append("\n\n## Skills\n- Java, Spring Boot, PostgreSQL, Kafka, Lucene, Kubernetes\n\n## Experience\n");
+        for (int i = 0; i < 8; i++) {
+            builder.append("### Staff Engineer - Company ").append(i).append('\n');
+            for (int j = 0; j < 5; j++) {
+                builder.append("- Reduced `p99` latency of the matching service by redesigning the scoring pipeline ")
+                        .append("and introducing bounded queues across ").append(j + 2).append(" regions\n");
+            }
+            builder.append('\n');
+        }
+        markdown = builder.toString();
+    }
+
+    @Benchmark
+    public void renderPdf() throws IOException {
+        renderer.renderPdf(markdown, OutputStream.nullOutputStream());
+    }
+}
@@ -1,13 +1,29 @@
 package com.villanidev.atsmatchingengine.api.cv;
 
 import com.villanidev.atsmatchingengine.cv.CvBatchMatchingService;
+import com.villanidev.atsmatchingengine.cv.CvDocumentService;
 import com.villanidev.atsmatchingengine.cv.CvMatchingService;
+import com.villanidev.atsmatchingengine.cv.CvTopMatchService;
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
 import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
 import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Options;
 import com.villanidev.atsmatchingengine.parsing.CvUploadParser;
+import com.villanidev.atsmatchingengine.rendering.DocumentFormat;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -15,7 +31,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -26,10 +44,18 @@ import java.util.List;
 @RequestMapping("/api/cv")
 public class CvController {
 
+    private static final String TOMCAT_SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String TOMCAT_SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String TOMCAT_SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String TOMCAT_SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final CacheControl DOCUMENT_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final CvMatchingService cvMatchingService;
     private final CvMasterStoreService cvMasterStoreService;
     private final CvBatchMatchingService cvBatchMatchingService;
     private final CvGeneratedStoreService cvGeneratedStoreService;
+    private final CvTopMatchService cvTopMatchService;
+    private final CvDocumentService cvDocumentService;
     private final CvUploadParser cvUploadParser;
 
     public CvController(
@@ -37,11 +63,15 @@ public class CvController {
             CvMasterStoreService cvMasterStoreService,
             CvBatchMatchingService cvBatchMatchingService,
             CvGeneratedStoreService cvGeneratedStoreService,
+            CvTopMatchService cvTopMatchService,
+            CvDocumentService cvDocumentService,
             CvUploadParser cvUploadParser) {
         this.cvMatchingService = cvMatchingService;
         this.cvMasterStoreService = cvMasterStoreService;
         this.cvBatchMatchingService = cvBatchMatchingService;
         this.cvGeneratedStoreService = cvGeneratedStoreService;
+        this.cvTopMatchService = cvTopMatchService;
+        this.cvDocumentService = cvDocumentService;
         this.cvUploadParser = cvUploadParser;
     }
 
@@ -101,15 +131,37 @@ public class CvController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/generated/{id}/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadPdf(@PathVariable("id") Long id, ServletWebRequest request) {
+        return streamDocument(id, DocumentFormat.PDF, request);
+    }
+
+    @GetMapping("/generated/{id}/docx")
+    public ResponseEntity<StreamingResponseBody> downloadDocx(@PathVariable("id") Long id, ServletWebRequest request) {
+        return streamDocument(id, DocumentFormat.DOCX, request);
+    }
+
+    @GetMapping("/generated/{id}/download")
+    public ResponseEntity<StreamingResponseBody> downloadGenerated(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "format", defaultValue = "pdf") String format,
+            ServletWebRequest request) {
+        return DocumentFormat.from(format)
+                .map(resolved -> streamDocument(id, resolved, request))
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+
     @PostMapping("/generate-from-db")
     public ResponseEntity<CvGenerateFromDbResponse> generateCvFromDb(
             @Valid @RequestBody CvGenerateFromDbRequest request) {
+        Options options = request.getOptions() != null ? request.getOptions() : new Options();
+        CvGeneratedEntity generated = cvMatchingService.generateForJob(
+                request.getCvMasterId(),
+                request.getJobPostingId(),
+                options);
         CvGenerateFromDbResponse response = new CvGenerateFromDbResponse(
-                cvMatchingService.generateForJob(
-                        request.getCvMasterId(),
-                        request.getJobPostingId(),
-                        request.getOptions() != null ? request.getOptions() : new Options())
-        );
+                generated,
+                cvDocumentService.inlineOutput(generated.getId(), options.getOutputFormats()).orElse(null));
         return ResponseEntity.ok(response);
     }
 
@@ -121,4 +173,56 @@ public class CvController {
                 .runBatch(request.getCvMasterId(), resolved, limit);
         return ResponseEntity.ok(new CvBatchMatchResponse(result));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/top-matches")
+    public ResponseEntity<CvTopMatchesResponse> topMatches(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "k", defaultValue = "20") int k) {
+        return cvTopMatchService.topMatches(id, new Options(), k)
+                .map(result -> ResponseEntity.ok(new CvTopMatchesResponse(result)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamDocument(Long id, DocumentFormat format, ServletWebRequest webRequest) {
+        CvDocumentService.StoredDocument document = cvDocumentService.open(id, format).orElse(null);
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // Artifacts are content-addressed, so the hash is a strong validator for the exact bytes.
+        String etag = "\"" + document.getHash() + "\"";
+        // checkNotModified writes the ETag on both outcomes (and the 304 status), so the builders below never add it.
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(DOCUMENT_CACHE_CONTROL).build();
+        }
+        Path path = document.getPath();
+        long size;
+        try {
+            size = Files.size(path);
+        } catch (IOException ex) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(DOCUMENT_CACHE_CONTROL)
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .contentLength(size)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"cv-" + id + "." + format.getExtension() + "\"");
+        HttpServletRequest request = webRequest.getRequest();
+        if (Boolean.TRUE.equals(request.getAttribute(TOMCAT_SENDFILE_SUPPORT))) {
+            // Tomcat hands the file to the socket with sendfile once the headers are written.
+            request.setAttribute(TOMCAT_SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(TOMCAT_SENDFILE_START, 0L);
+            request.setAttribute(TOMCAT_SENDFILE_END, size);
+            return response.build();
+        }
+        return response.body(outputStream -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = 0;
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+            }
+        });
+    }
+}
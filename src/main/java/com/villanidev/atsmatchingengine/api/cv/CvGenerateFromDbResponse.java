@@ -1,13 +1,18 @@
 package com.villanidev.atsmatchingengine.api.cv;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
 
 public class CvGenerateFromDbResponse {
 
     @JsonProperty("generated_id")
     private Long generatedId;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CvGenerated.Output output;
+
     public CvGenerateFromDbResponse() {
     }
 
@@ -15,6 +20,11 @@ public class CvGenerateFromDbResponse {
         this.generatedId = entity.getId();
     }
 
+    public CvGenerateFromDbResponse(CvGeneratedEntity entity, CvGenerated.Output output) {
+        this.generatedId = entity.getId();
+        this.output = output;
+    }
+
     public Long getGeneratedId() {
         return generatedId;
     }
@@ -22,4 +32,12 @@ public class CvGenerateFromDbResponse {
     public void setGeneratedId(Long generatedId) {
         this.generatedId = generatedId;
     }
+
+    public CvGenerated.Output getOutput() {
+        return output;
+    }
+
+    public void setOutput(CvGenerated.Output output) {
+        this.output = output;
+    }
 }
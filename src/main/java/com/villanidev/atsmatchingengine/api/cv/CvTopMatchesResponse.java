@@ -0,0 +1,140 @@
+package com.villanidev.atsmatchingengine.api.cv;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.villanidev.atsmatchingengine.cv.CvTopMatchService;
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import java.util.List;
+
+public class CvTopMatchesResponse {
+
+    @JsonProperty("cv_master_id")
+    private Long cvMasterId;
+
+    @JsonProperty("scanned_jobs")
+    private int scannedJobs;
+
+    private int failed;
+
+    private List<Match> matches;
+
+    public CvTopMatchesResponse() {
+    }
+
+    public CvTopMatchesResponse(CvTopMatchService.TopMatchResult result) {
+        this.cvMasterId = result.getCvMasterId();
+        this.scannedJobs = result.getScannedJobs();
+        this.failed = result.getFailed();
+        this.matches = result.getMatches().stream().map(Match::new).toList();
+    }
+
+    public Long getCvMasterId() {
+        return cvMasterId;
+    }
+
+    public void setCvMasterId(Long cvMasterId) {
+        this.cvMasterId = cvMasterId;
+    }
+
+    public int getScannedJobs() {
+        return scannedJobs;
+    }
+
+    public void setScannedJobs(int scannedJobs) {
+        this.scannedJobs = scannedJobs;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<Match> getMatches() {
+        return matches;
+    }
+
+    public void setMatches(List<Match> matches) {
+        this.matches = matches;
+    }
+
+    public static class Match {
+
+        @JsonProperty("job_posting_id")
+        private Long jobPostingId;
+
+        @JsonProperty("job_title")
+        private String jobTitle;
+
+        private String company;
+
+        private String location;
+
+        @JsonProperty("matching_score")
+        private double matchingScore;
+
+        @JsonProperty("matching_details")
+        private CvGenerated.MatchingDetails matchingDetails;
+
+        public Match() {
+        }
+
+        public Match(CvTopMatchService.TopMatch match) {
+            this.jobPostingId = match.getJobPostingId();
+            this.jobTitle = match.getJobTitle();
+            this.company = match.getCompany();
+            this.location = match.getLocation();
+            this.matchingScore = match.getScore();
+            this.matchingDetails = match.getDetails();
+        }
+
+        public Long getJobPostingId() {
+            return jobPostingId;
+        }
+
+        public void setJobPostingId(Long jobPostingId) {
+            this.jobPostingId = jobPostingId;
+        }
+
+        public String getJobTitle() {
+            return jobTitle;
+        }
+
+        public void setJobTitle(String jobTitle) {
+            this.jobTitle = jobTitle;
+        }
+
+        public String getCompany() {
+            return company;
+        }
+
+        public void setCompany(String company) {
+            this.company = company;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public double getMatchingScore() {
+            return matchingScore;
+        }
+
+        public void setMatchingScore(double matchingScore) {
+            this.matchingScore = matchingScore;
+        }
+
+        public CvGenerated.MatchingDetails getMatchingDetails() {
+            return matchingDetails;
+        }
+
+        public void setMatchingDetails(CvGenerated.MatchingDetails matchingDetails) {
+            this.matchingDetails = matchingDetails;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.villanidev.atsmatchingengine.api.error;
 
 import com.villanidev.atsmatchingengine.parsing.InvalidUploadException;
+import com.villanidev.atsmatchingengine.rendering.DocumentRenderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,6 +15,8 @@ import java.time.Instant;
 @RestControllerAdvice
 public class ApiExceptionHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
     @ExceptionHandler(InvalidUploadException.class)
     public ResponseEntity<ApiError> handleInvalidUpload(InvalidUploadException ex) {
         ApiError error = new ApiError("invalid_input", ex.getMessage(), Instant.now().toString());
@@ -23,4 +28,11 @@ public class ApiExceptionHandler {
         ApiError error = new ApiError("multipart_error", "Malformed multipart request.", Instant.now().toString());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(DocumentRenderException.class)
+    public ResponseEntity<ApiError> handleDocumentRenderError(DocumentRenderException ex) {
+        logger.error("Document rendering failed message={}", ex.getMessage(), ex);
+        ApiError error = new ApiError("render_failed", ex.getMessage(), Instant.now().toString());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+}
@@ -1,5 +1,7 @@
 package com.villanidev.atsmatchingengine.api.jobs;
 
+import com.villanidev.atsmatchingengine.cv.JobTopCandidateService;
+import com.villanidev.atsmatchingengine.domain.Options;
 import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
 import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
 import java.util.List;
@@ -17,9 +19,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class JobPostingController {
 
     private final JobPostingNormalizedRepository repository;
+    private final JobTopCandidateService topCandidateService;
 
-    public JobPostingController(JobPostingNormalizedRepository repository) {
+    public JobPostingController(JobPostingNormalizedRepository repository, JobTopCandidateService topCandidateService) {
         this.repository = repository;
+        this.topCandidateService = topCandidateService;
     }
 
     @GetMapping
@@ -50,4 +54,14 @@ public class JobPostingController {
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
+
+    @GetMapping("/{id}/top-candidates")
+    public ResponseEntity<JobTopCandidatesResponse> topCandidates(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "k", defaultValue = "20") int k,
+            @RequestParam(value = "prefilter", defaultValue = "true") boolean prefilter) {
+        return topCandidateService.topCandidates(id, new Options(), k, prefilter)
+                .map(result -> ResponseEntity.ok(new JobTopCandidatesResponse(result)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,151 @@
+package com.villanidev.atsmatchingengine.api.jobs;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.villanidev.atsmatchingengine.cv.JobTopCandidateService;
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import java.util.List;
+
+public class JobTopCandidatesResponse {
+
+    @JsonProperty("job_posting_id")
+    private Long jobPostingId;
+
+    @JsonProperty("scanned_cvs")
+    private int scannedCvs;
+
+    private int failed;
+
+    @JsonProperty("unranked_cvs")
+    private int unrankedCvs;
+
+    private boolean truncated;
+
+    private List<Candidate> candidates;
+
+    public JobTopCandidatesResponse() {
+    }
+
+    public JobTopCandidatesResponse(JobTopCandidateService.TopCandidateResult result) {
+        this.jobPostingId = result.getJobPostingId();
+        this.scannedCvs = result.getScannedCvs();
+        this.failed = result.getFailed();
+        this.unrankedCvs = result.getUnrankedCvs();
+        this.truncated = result.isTruncated();
+        this.candidates = result.getCandidates().stream().map(Candidate::new).toList();
+    }
+
+    public Long getJobPostingId() {
+        return jobPostingId;
+    }
+
+    public void setJobPostingId(Long jobPostingId) {
+        this.jobPostingId = jobPostingId;
+    }
+
+    public int getScannedCvs() {
+        return scannedCvs;
+    }
+
+    public void setScannedCvs(int scannedCvs) {
+        this.scannedCvs = scannedCvs;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public int getUnrankedCvs() {
+        return unrankedCvs;
+    }
+
+    public void setUnrankedCvs(int unrankedCvs) {
+        this.unrankedCvs = unrankedCvs;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public List<Candidate> getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(List<Candidate> candidates) {
+        this.candidates = candidates;
+    }
+
+    public static class Candidate {
+
+        @JsonProperty("cv_master_id")
+        private Long cvMasterId;
+
+        private String name;
+
+        private String title;
+
+        @JsonProperty("matching_score")
+        private double matchingScore;
+
+        @JsonProperty("matching_details")
+        private CvGenerated.MatchingDetails matchingDetails;
+
+        public Candidate() {
+        }
+
+        public Candidate(JobTopCandidateService.TopCandidate candidate) {
+            this.cvMasterId = candidate.getCvMasterId();
+            this.name = candidate.getName();
+            this.title = candidate.getTitle();
+            this.matchingScore = candidate.getScore();
+            this.matchingDetails = candidate.getDetails();
+        }
+
+        public Long getCvMasterId() {
+            return cvMasterId;
+        }
+
+        public void setCvMasterId(Long cvMasterId) {
+            this.cvMasterId = cvMasterId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public double getMatchingScore() {
+            return matchingScore;
+        }
+
+        public void setMatchingScore(double matchingScore) {
+            this.matchingScore = matchingScore;
+        }
+
+        public CvGenerated.MatchingDetails getMatchingDetails() {
+            return matchingDetails;
+        }
+
+        public void setMatchingDetails(CvGenerated.MatchingDetails matchingDetails) {
+            this.matchingDetails = matchingDetails;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CvAutoMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvAutoMatchingService.class);
+
+    private final CvMatchingService matchingService;
+    private final CvMasterStoreService cvMasterStoreService;
+    private final CvMatchMarkService matchMarkService;
+    private final CvGeneratedStoreService generatedStoreService;
+    private final Executor executor;
+    private final int concurrency;
+    private final int progressInterval;
+    private final int batchSize;
+
+    public CvAutoMatchingService(
+            CvMatchingService matchingService,
+            CvMasterStoreService cvMasterStoreService,
+            CvMatchMarkService matchMarkService,
+            CvGeneratedStoreService generatedStoreService,
+            @Qualifier("eltTaskExecutor") Executor executor,
+            @Value("${elt.matching.auto.concurrency:8}") int concurrency,
+            @Value("${elt.matching.auto.progress-interval:25}") int progressInterval,
+            @Value("${elt.matching.auto.batch-size:50}") int batchSize) {
+        this.matchingService = matchingService;
+        this.cvMasterStoreService = cvMasterStoreService;
+        this.matchMarkService = matchMarkService;
+        this.generatedStoreService = generatedStoreService;
+        this.executor = executor;
+        this.concurrency = Math.max(concurrency, 1);
+        this.progressInterval = Math.max(progressInterval, 1);
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    public AutoMatchResult matchAll(List<Long> cvMasterIds, Options options, int limit, IntConsumer progressListener) {
+        int bounded = Math.min(Math.max(limit, 1), 500);
+        Counters counters = new Counters();
+
+        // Each permit is one in-flight (CV, job) item; the producer blocks once all permits are taken.
+        Semaphore permits = new Semaphore(concurrency);
+        int submitted = 0;
+        int reported = 0;
+        try {
+            for (Long cvMasterId : cvMasterIds) {
+                CvMasterEntity cvMaster = cvMasterStoreService.findEntity(cvMasterId).orElse(null);
+                if (cvMaster == null) {
+                    continue;
+                }
+                List<JobPostingNormalized> jobs = matchMarkService.nextJobs(cvMaster, bounded);
+                if (jobs.isEmpty()) {
+                    continue;
+                }
+                CvRun run;
+                try {
+                    run = new CvRun(cvMaster, jobs, matchingService.loadProfile(cvMaster),
+                            generatedStoreService.findGeneratedJobIds(cvMasterId), counters);
+                } catch (Exception ex) {
+                    logger.info("Auto matching skipped cvMasterId={} message={}", cvMasterId, ex.getMessage());
+                    continue;
+                }
+                for (JobPostingNormalized job : jobs) {
+                    permits.acquire();
+                    submitted++;
+                    try {
+                        CompletableFuture.runAsync(() -> matchItem(run, job, options, counters), executor)
+                                .whenComplete((ignored, ex) -> {
+                                    if (ex != null) {
+                                        itemFailed(run, job, counters, ex);
+                                    }
+                                    run.itemFinished();
+                                    permits.release();
+                                });
+                    } catch (RuntimeException ex) {
+                        // A synchronous rejection never reaches whenComplete, so the permit is returned here.
+                        itemFailed(run, job, counters, ex);
+                        run.itemFinished();
+                        permits.release();
+                    }
+                    reported = reportProgress(counters, reported, progressListener);
+                }
+            }
+            permits.acquire(concurrency);
+            permits.release(concurrency);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            logger.info("Auto matching interrupted after submitting {} items", submitted);
+        }
+
+        AutoMatchResult result = counters.toResult(cvMasterIds.size(), submitted);
+        logger.info("Auto matching finished cvs={} items={} generated={} skippedExisting={} skippedBelowThreshold={} failed={}",
+                cvMasterIds.size(), submitted, result.getGenerated(), result.getSkippedExisting(),
+                result.getSkippedBelowThreshold(), result.getFailed());
+        return result;
+    }
+
+    private void matchItem(CvRun run, JobPostingNormalized job, Options options, Counters counters) {
+        if (CvGeneratedStoreService.containsJob(run.generatedJobIds, job.getId())) {
+            counters.skippedExisting.incrementAndGet();
+            return;
+        }
+        try {
+            Optional<CvGeneratedEntity> matched = matchingService.match(run.cvMaster, run.profile, job, options, true);
+            if (matched.isEmpty()) {
+                counters.skippedBelowThreshold.incrementAndGet();
+                return;
+            }
+            // Stored here rather than after itemFinished, so the mark only advances once this batch is written.
+            store(run, run.add(matched.get()), counters);
+        } catch (Exception ex) {
+            itemFailed(run, job, counters, ex);
+        }
+    }
+
+    private void store(CvRun run, List<CvGeneratedEntity> batch, Counters counters) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            generatedStoreService.saveAll(batch);
+            counters.generated.addAndGet(batch.size());
+        } catch (Exception ex) {
+            counters.failed.addAndGet(batch.size());
+            batch.forEach(entity -> run.failedJobIds.add(entity.getJobPostingId()));
+            logger.info("Failed to store generated CVs cvMasterId={} count={} message={}",
+                    run.cvMaster.getId(), batch.size(), ex.getMessage());
+        }
+    }
+
+    private void itemFailed(CvRun run, JobPostingNormalized job, Counters counters, Throwable ex) {
+        counters.failed.incrementAndGet();
+        run.failedJobIds.add(job.getId());
+        logger.info("Auto matching failed cvMasterId={} jobPostingId={} message={}",
+                run.cvMaster.getId(), job.getId(), ex.getMessage());
+    }
+
+    private int reportProgress(Counters counters, int reported, IntConsumer progressListener) {
+        int generated = counters.generated.get();
+        if (generated - reported < progressInterval) {
+            return reported;
+        }
+        progressListener.accept(generated);
+        return generated;
+    }
+
+    private class CvRun {
+        private final CvMasterEntity cvMaster;
+        private final List<JobPostingNormalized> jobs;
+        private final MatchProfile profile;
+        private final long[] generatedJobIds;
+        private final Set<Long> failedJobIds = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger remaining;
+        private final Counters counters;
+        private List<CvGeneratedEntity> pending = new ArrayList<>();
+
+        private CvRun(CvMasterEntity cvMaster,
+                      List<JobPostingNormalized> jobs,
+                      MatchProfile profile,
+                      long[] generatedJobIds,
+                      Counters counters) {
+            this.cvMaster = cvMaster;
+            this.jobs = jobs;
+            this.profile = profile;
+            this.generatedJobIds = generatedJobIds;
+            this.counters = counters;
+            this.remaining = new AtomicInteger(jobs.size());
+        }
+
+        // Returns a full batch to store, or an empty list while the batch is still filling.
+        private synchronized List<CvGeneratedEntity> add(CvGeneratedEntity entity) {
+            pending.add(entity);
+            return pending.size() >= batchSize ? drain() : List.of();
+        }
+
+        private synchronized List<CvGeneratedEntity> drain() {
+            List<CvGeneratedEntity> batch = pending;
+            pending = new ArrayList<>();
+            return batch;
+        }
+
+        private void itemFinished() {
+            if (remaining.decrementAndGet() == 0) {
+                store(this, drain(), counters);
+                matchMarkService.advance(cvMaster, jobs, failedJobIds);
+            }
+        }
+    }
+
+    private static class Counters {
+        private final AtomicInteger generated = new AtomicInteger();
+        private final AtomicInteger skippedExisting = new AtomicInteger();
+        private final AtomicInteger skippedBelowThreshold = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private AutoMatchResult toResult(int cvCount, int items) {
+            return new AutoMatchResult(cvCount, items, generated.get(), skippedExisting.get(),
+                    skippedBelowThreshold.get(), failed.get());
+        }
+    }
+
+    public static class AutoMatchResult {
+        private final int cvCount;
+        private final int items;
+        private final int generated;
+        private final int skippedExisting;
+        private final int skippedBelowThreshold;
+        private final int failed;
+
+        public AutoMatchResult(int cvCount,
+                               int items,
+                               int generated,
+                               int skippedExisting,
+                               int skippedBelowThreshold,
+                               int failed) {
+            this.cvCount = cvCount;
+            this.items = items;
+            this.generated = generated;
+            this.skippedExisting = skippedExisting;
+            this.skippedBelowThreshold = skippedBelowThreshold;
+            this.failed = failed;
+        }
+
+        public int getCvCount() {
+            return cvCount;
+        }
+
+        public int getItems() {
+            return items;
+        }
+
+        public int getGenerated() {
+            return generated;
+        }
+
+        public int getSkippedExisting() {
+            return skippedExisting;
+        }
+
+        public int getSkippedBelowThreshold() {
+            return skippedBelowThreshold;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+    }
+}
@@ -1,57 +1,92 @@
 package com.villanidev.atsmatchingengine.cv;
 
-import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedRepository;
 import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
 import com.villanidev.atsmatchingengine.domain.Options;
 import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
-import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import org.springframework.data.domain.PageRequest;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CvBatchMatchingService {
 
+    private static final Logger logger = LoggerFactory.getLogger(CvBatchMatchingService.class);
+
     private final CvMatchingService matchingService;
-    private final JobPostingNormalizedRepository jobRepository;
-    private final CvGeneratedRepository generatedRepository;
+    private final CvMasterStoreService cvMasterStoreService;
+    private final CvMatchMarkService matchMarkService;
+    private final CvGeneratedStoreService generatedStoreService;
 
     public CvBatchMatchingService(
             CvMatchingService matchingService,
-            JobPostingNormalizedRepository jobRepository,
-            CvGeneratedRepository generatedRepository) {
+            CvMasterStoreService cvMasterStoreService,
+            CvMatchMarkService matchMarkService,
+            CvGeneratedStoreService generatedStoreService) {
         this.matchingService = matchingService;
-        this.jobRepository = jobRepository;
-        this.generatedRepository = generatedRepository;
+        this.cvMasterStoreService = cvMasterStoreService;
+        this.matchMarkService = matchMarkService;
+        this.generatedStoreService = generatedStoreService;
     }
 
     public BatchResult runBatch(Long cvMasterId, Options options, int limit) {
         int bounded = Math.min(Math.max(limit, 1), 500);
-        List<JobPostingNormalized> jobs = jobRepository.findAll(PageRequest.of(0, bounded)).getContent();
-        int generated = 0;
+        CvMasterEntity cvMaster = cvMasterStoreService.findEntity(cvMasterId).orElse(null);
+        if (cvMaster == null) {
+            return new BatchResult(0, 0, 0, 0, 0, List.of());
+        }
+        List<JobPostingNormalized> jobs = matchMarkService.nextJobs(cvMaster, bounded);
+        if (jobs.isEmpty()) {
+            return new BatchResult(0, 0, 0, 0, 0, List.of());
+        }
+        MatchProfile profile = matchingService.loadProfile(cvMaster);
+        long[] generatedJobIds = generatedStoreService.findGeneratedJobIds(cvMasterId);
+        Set<Long> failedJobIds = new HashSet<>();
+        List<CvGeneratedEntity> pending = new ArrayList<>();
         int skippedExisting = 0;
         int skippedBelowThreshold = 0;
         int failed = 0;
-        List<Long> generatedIds = new ArrayList<>();
 
         for (JobPostingNormalized job : jobs) {
-            if (generatedRepository.existsByCvMasterIdAndJobPostingId(cvMasterId, job.getId())) {
+            if (CvGeneratedStoreService.containsJob(generatedJobIds, job.getId())) {
                 skippedExisting++;
                 continue;
             }
             try {
-                CvGeneratedEntity entity = matchingService.generateForJob(cvMasterId, job.getId(), options);
-                generated++;
-                generatedIds.add(entity.getId());
-            } catch (IllegalStateException ex) {
-                skippedBelowThreshold++;
+                Optional<CvGeneratedEntity> matched = matchingService.match(cvMaster, profile, job, options, true);
+                if (matched.isPresent()) {
+                    pending.add(matched.get());
+                } else {
+                    skippedBelowThreshold++;
+                }
             } catch (Exception ex) {
                 failed++;
+                failedJobIds.add(job.getId());
+            }
+        }
+
+        List<Long> generatedIds = new ArrayList<>();
+        if (!pending.isEmpty()) {
+            try {
+                generatedStoreService.saveAll(pending).forEach(entity -> generatedIds.add(entity.getId()));
+            } catch (Exception ex) {
+                logger.info("Failed to store generated CVs cvMasterId={} count={} message={}",
+                        cvMasterId, pending.size(), ex.getMessage());
+                failed += pending.size();
+                pending.forEach(entity -> failedJobIds.add(entity.getJobPostingId()));
             }
         }
+        matchMarkService.advance(cvMaster, jobs, failedJobIds);
 
-        return new BatchResult(jobs.size(), generated, skippedExisting, skippedBelowThreshold, failed, generatedIds);
+        return new BatchResult(jobs.size(), generatedIds.size(), skippedExisting, skippedBelowThreshold, failed, generatedIds);
     }
 
     public static class BatchResult {
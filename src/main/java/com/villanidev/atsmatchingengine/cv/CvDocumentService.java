@@ -0,0 +1,116 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
+import com.villanidev.atsmatchingengine.cv.storage.FileArtifactStore;
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import com.villanidev.atsmatchingengine.rendering.DocumentFormat;
+import com.villanidev.atsmatchingengine.rendering.DocumentRenderException;
+import com.villanidev.atsmatchingengine.rendering.OutputRenderer;
+import com.villanidev.atsmatchingengine.templates.TemplateRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CvDocumentService {
+
+    private final OutputRenderer outputRenderer;
+    private final CvGeneratedStoreService generatedStoreService;
+    private final FileArtifactStore artifactStore;
+
+    public CvDocumentService(CvGeneratedStoreService generatedStoreService,
+                             FileArtifactStore artifactStore,
+                             TemplateRegistry templateRegistry,
+                             MeterRegistry meterRegistry) {
+        this.outputRenderer = new OutputRenderer(templateRegistry, meterRegistry);
+        this.generatedStoreService = generatedStoreService;
+        this.artifactStore = artifactStore;
+    }
+
+    public Optional<StoredDocument> open(Long cvGeneratedId, DocumentFormat format) {
+        CvGeneratedEntity entity = generatedStoreService.findEntity(cvGeneratedId).orElse(null);
+        if (entity == null) {
+            return Optional.empty();
+        }
+        String storedHash = generatedStoreService.artifactHash(entity, format);
+        Optional<Path> stored = artifactStore.find(storedHash);
+        if (stored.isPresent()) {
+            return Optional.of(new StoredDocument(storedHash, stored.get()));
+        }
+        byte[] rendered = outputRenderer.render(markdown(entity), format);
+        String hash = artifactStore.put(rendered);
+        generatedStoreService.attachArtifact(cvGeneratedId, format, hash);
+        return artifactStore.find(hash).map(path -> new StoredDocument(hash, path));
+    }
+
+    // Formats listed in options.output_formats come back inline; PDF/DOCX bytes are served from the
+    // artifact store, so only the first request for a generated CV renders them.
+    public Optional<CvGenerated.Output> inlineOutput(Long cvGeneratedId, List<String> outputFormats) {
+        if (outputFormats == null || outputFormats.isEmpty()) {
+            return Optional.empty();
+        }
+        CvGeneratedEntity entity = generatedStoreService.findEntity(cvGeneratedId).orElse(null);
+        if (entity == null) {
+            return Optional.empty();
+        }
+        CvGenerated.Output output = new CvGenerated.Output();
+        for (String requested : outputFormats) {
+            if ("markdown".equalsIgnoreCase(requested)) {
+                output.setMarkdown(markdown(entity));
+                continue;
+            }
+            DocumentFormat format = DocumentFormat.from(requested).orElse(null);
+            if (format == null) {
+                continue;
+            }
+            String base64 = open(cvGeneratedId, format)
+                    .map(document -> Base64.getEncoder().encodeToString(read(document)))
+                    .orElse(null);
+            switch (format) {
+                case PDF -> output.setPdfBase64(base64);
+                case DOCX -> output.setDocxBase64(base64);
+            }
+        }
+        return Optional.of(output);
+    }
+
+    private String markdown(CvGeneratedEntity entity) {
+        CvGenerated.Output output = generatedStoreService.readPayload(entity).getOutput();
+        if (output == null || output.getMarkdown() == null) {
+            throw new DocumentRenderException("CvGenerated id=" + entity.getId() + " has no markdown to render");
+        }
+        return output.getMarkdown();
+    }
+
+    private static byte[] read(StoredDocument document) {
+        try {
+            return Files.readAllBytes(document.getPath());
+        } catch (IOException ex) {
+            throw new DocumentRenderException("Failed to read stored document " + document.getHash(), ex);
+        }
+    }
+
+    public static class StoredDocument {
+        private final String hash;
+        private final Path path;
+
+        public StoredDocument(String hash, Path path) {
+            this.hash = hash;
+            this.path = path;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+    }
+}
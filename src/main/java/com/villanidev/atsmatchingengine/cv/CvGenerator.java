@@ -5,6 +5,9 @@ import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
 import com.villanidev.atsmatchingengine.domain.Options;
 import com.villanidev.atsmatchingengine.matching.MatchingEngine;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.scoring.ScoringContext;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -25,19 +28,52 @@ public class CvGenerator {
     }
 
     public CvGenerated generate(CvMaster cvMaster, Job job, Options options) {
-        CvGenerated generated = matchingEngine.generateCv(cvMaster, job, options);
+        return generate(cvMaster, job, options, null);
+    }
+
+    public CvGenerated generate(CvMaster cvMaster, Job job, Options options, Double precomputedTextRelevance) {
+        return generate(MatchProfile.of(cvMaster), job, options, precomputedTextRelevance);
+    }
+
+    public CvGenerated generate(MatchProfile profile, Job job, Options options, Double precomputedTextRelevance) {
+        return generate(profile, job, options, precomputedTextRelevance, false);
+    }
+
+    public CvGenerated generate(MatchProfile profile,
+                                Job job,
+                                Options options,
+                                Double precomputedTextRelevance,
+                                boolean concurrentSections) {
+        return generate(matchingEngine.newContext(profile, job), options, precomputedTextRelevance, concurrentSections);
+    }
+
+    public CvGenerated generate(MatchProfile profile,
+                                JobProfile jobProfile,
+                                Options options,
+                                Double precomputedTextRelevance,
+                                boolean concurrentSections) {
+        return generate(matchingEngine.newContext(profile, jobProfile), options, precomputedTextRelevance, concurrentSections);
+    }
+
+    private CvGenerated generate(ScoringContext context,
+                                 Options options,
+                                 Double precomputedTextRelevance,
+                                 boolean concurrentSections) {
+        CvGenerated generated = matchingEngine.buildSections(context, options, precomputedTextRelevance, concurrentSections);
 
-        List<String> focusedSummary = summaryGenerator.generateSummary(cvMaster, job);
+        List<String> focusedSummary = summaryGenerator.generateSummary(context);
         generated.setSummary(focusedSummary);
 
         if (generated.getSkillsSection() != null) {
-            List<String> rankedSkills = skillRanker.rankSkills(cvMaster, job);
+            List<String> rankedSkills = skillRanker.rankSkills(context);
             generated.getSkillsSection().setHighlightedSkills(rankedSkills);
             if (generated.getSkillsSection().getSkillsGrouped() != null) {
                 generated.getSkillsSection().getSkillsGrouped().put("all", rankedSkills);
             }
         }
 
+        // Rendered after the summary and skills are focused so the markdown reflects them.
+        matchingEngine.renderOutput(generated, options);
         return generated;
     }
 }
@@ -0,0 +1,55 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CvMatchMarkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvMatchMarkService.class);
+
+    private final JobPostingNormalizedRepository jobRepository;
+    private final CvMasterStoreService cvMasterStoreService;
+
+    public CvMatchMarkService(JobPostingNormalizedRepository jobRepository, CvMasterStoreService cvMasterStoreService) {
+        this.jobRepository = jobRepository;
+        this.cvMasterStoreService = cvMasterStoreService;
+    }
+
+    public List<JobPostingNormalized> nextJobs(CvMasterEntity cvMaster, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (cvMaster.getMatchedThroughNormalizedAt() == null || cvMaster.getMatchedThroughJobId() == null) {
+            return jobRepository.findInMatchOrder(page);
+        }
+        return jobRepository.findInMatchOrderAfter(
+                cvMaster.getMatchedThroughNormalizedAt(),
+                cvMaster.getMatchedThroughJobId(),
+                page);
+    }
+
+    public void advance(CvMasterEntity cvMaster, List<JobPostingNormalized> jobs, Set<Long> failedJobIds) {
+        // Jobs are in mark order; stop before the first failure so it is retried on the next run.
+        JobPostingNormalized last = null;
+        for (JobPostingNormalized job : jobs) {
+            if (failedJobIds.contains(job.getId())) {
+                break;
+            }
+            last = job;
+        }
+        if (last == null) {
+            return;
+        }
+        boolean advanced = cvMasterStoreService.advanceMatchMark(cvMaster, last.getNormalizedAt(), last.getId());
+        if (!advanced) {
+            logger.info("CvMaster id={} changed during matching; keeping previous match mark", cvMaster.getId());
+        }
+    }
+}
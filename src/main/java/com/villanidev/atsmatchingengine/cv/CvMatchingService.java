@@ -2,13 +2,21 @@ package com.villanidev.atsmatchingengine.cv;
 
 import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
 import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
 import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
 import com.villanidev.atsmatchingengine.domain.CvGenerated;
-import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
 import com.villanidev.atsmatchingengine.domain.Options;
 import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
 import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
-import com.villanidev.atsmatchingengine.matching.JobPostingNormalizedMapper;
+import com.villanidev.atsmatchingengine.matching.index.CvSkillIndex;
+import com.villanidev.atsmatchingengine.matching.index.CvTextIndex;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfileCache;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfileCache;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -17,45 +25,108 @@ public class CvMatchingService {
     private final CvGenerator cvGenerator;
     private final CvMasterStoreService cvMasterStoreService;
     private final JobPostingNormalizedRepository jobRepository;
-    private final JobPostingNormalizedMapper jobMapper;
+    private final JobProfileCache jobProfileCache;
     private final CvGeneratedStoreService generatedStoreService;
+    private final CvTextIndex cvTextIndex;
+    private final CvSkillIndex cvSkillIndex;
+    private final MatchProfileCache matchProfileCache;
+    private final int prefilterMinMustHaveMatches;
+    private final boolean concurrentSections;
 
     public CvMatchingService(
             CvGenerator cvGenerator,
             CvMasterStoreService cvMasterStoreService,
             JobPostingNormalizedRepository jobRepository,
-            JobPostingNormalizedMapper jobMapper,
-            CvGeneratedStoreService generatedStoreService) {
+            JobProfileCache jobProfileCache,
+            CvGeneratedStoreService generatedStoreService,
+            CvTextIndex cvTextIndex,
+            CvSkillIndex cvSkillIndex,
+            MatchProfileCache matchProfileCache,
+            @Value("${matching.prefilter.min-must-have-matches:0}") int prefilterMinMustHaveMatches,
+            @Value("${matching.concurrent-sections.enabled:false}") boolean concurrentSections) {
         this.cvGenerator = cvGenerator;
         this.cvMasterStoreService = cvMasterStoreService;
         this.jobRepository = jobRepository;
-        this.jobMapper = jobMapper;
+        this.jobProfileCache = jobProfileCache;
         this.generatedStoreService = generatedStoreService;
+        this.cvTextIndex = cvTextIndex;
+        this.cvSkillIndex = cvSkillIndex;
+        this.matchProfileCache = matchProfileCache;
+        this.prefilterMinMustHaveMatches = prefilterMinMustHaveMatches;
+        this.concurrentSections = concurrentSections;
     }
 
     public CvGeneratedEntity generateForJob(Long cvMasterId, Long jobPostingId, Options options) {
-        CvMaster cvMaster = cvMasterStoreService.loadCvMaster(cvMasterId)
-                .orElseThrow(() -> new IllegalArgumentException("CvMaster not found"));
+        return generateForJob(cvMasterId, jobPostingId, options, false);
+    }
+
+    public CvGeneratedEntity generateForJob(Long cvMasterId, Long jobPostingId, Options options, boolean prefilter) {
         JobPostingNormalized normalized = jobRepository.findById(jobPostingId)
                 .orElseThrow(() -> new IllegalArgumentException("JobPostingNormalized not found"));
+        return generateForJob(cvMasterId, normalized, options, prefilter);
+    }
 
-        CvGenerated generated = cvGenerator.generate(cvMaster, jobMapper.toJob(normalized), options);
+    public CvGeneratedEntity generateForJob(Long cvMasterId, JobPostingNormalized normalized, Options options, boolean prefilter) {
+        CvMasterEntity cvMasterEntity = cvMasterStoreService.findEntity(cvMasterId)
+                .orElseThrow(() -> new IllegalArgumentException("CvMaster not found"));
+        CvGeneratedEntity entity = match(cvMasterEntity, loadProfile(cvMasterEntity), normalized, options, prefilter, concurrentSections)
+                .orElseThrow(() -> new IllegalStateException("Matching score below threshold"));
+        return generatedStoreService.save(entity);
+    }
+
+    public MatchProfile loadProfile(CvMasterEntity cvMasterEntity) {
+        return matchProfileCache.get(
+                cvMasterEntity.getId(),
+                cvMasterEntity.getUpdatedAt(),
+                () -> cvMasterStoreService.readPayload(cvMasterEntity)
+        );
+    }
+
+    public Optional<CvGeneratedEntity> match(CvMasterEntity cvMasterEntity,
+                                             MatchProfile profile,
+                                             JobPostingNormalized normalized,
+                                             Options options,
+                                             boolean prefilter) {
+        return match(cvMasterEntity, profile, normalized, options, prefilter, false);
+    }
+
+    // Empty when the pair is skipped by the must-have prefilter or falls below the relevance threshold.
+    private Optional<CvGeneratedEntity> match(CvMasterEntity cvMasterEntity,
+                                              MatchProfile profile,
+                                              JobPostingNormalized normalized,
+                                              Options options,
+                                              boolean prefilter,
+                                              boolean concurrentSections) {
+        Long cvMasterId = cvMasterEntity.getId();
+        JobProfile jobProfile = jobProfileCache.get(normalized);
+        Job job = jobProfile.getJob();
+        if (prefilter && !cvSkillIndex.coversMustHaveSkills(cvMasterId, job, prefilterMinMustHaveMatches)) {
+            return Optional.empty();
+        }
+
+        Double textRelevance = cvTextIndex.score(
+                cvMasterId,
+                jobProfile.getQuery(),
+                options != null ? options.getTextRelevanceStrategy() : null
+        ).orElse(null);
+
+        CvGenerated generated = cvGenerator.generate(profile, jobProfile, options, textRelevance, concurrentSections);
         Double score = generated.getMeta() != null ? generated.getMeta().getMatchingScoreOverall() : null;
         double threshold = options != null && options.getRelevanceThreshold() != null
                 ? options.getRelevanceThreshold()
                 : 0.6;
         double resolvedScore = score != null ? score : 0.0;
         if (resolvedScore < threshold) {
-            throw new IllegalStateException("Matching score below threshold: " + resolvedScore);
+            return Optional.empty();
         }
 
-        return generatedStoreService.save(
+        return Optional.of(generatedStoreService.newEntity(
                 cvMasterId,
-                jobPostingId,
+                normalized.getId(),
                 normalized.getTitle(),
                 normalized.getLocation(),
                 score,
                 generated
-        );
+        ));
     }
 }
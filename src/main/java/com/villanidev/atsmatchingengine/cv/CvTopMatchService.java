@@ -0,0 +1,250 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.domain.TextRelevanceStrategy;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.matching.index.CvTextIndex;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfileCache;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.ranking.TopKHeap;
+import com.villanidev.atsmatchingengine.matching.scoring.MatchingScoringService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CvTopMatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvTopMatchService.class);
+
+    private static final Comparator<TopMatch> WORST_FIRST = Comparator
+            .comparingDouble(TopMatch::getScore)
+            .thenComparing(TopMatch::getJobPostingId, Comparator.reverseOrder());
+
+    private final MatchingScoringService scoringService;
+    private final CvMasterStoreService cvMasterStoreService;
+    private final CvMatchingService matchingService;
+    private final JobPostingNormalizedRepository jobRepository;
+    private final JobProfileCache jobProfileCache;
+    private final CvTextIndex cvTextIndex;
+    private final Executor executor;
+    private final int pageSize;
+    private final int concurrency;
+    private final int maxK;
+
+    public CvTopMatchService(
+            CvMasterStoreService cvMasterStoreService,
+            CvMatchingService matchingService,
+            JobPostingNormalizedRepository jobRepository,
+            JobProfileCache jobProfileCache,
+            CvTextIndex cvTextIndex,
+            @Qualifier("eltTaskExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${matching.top-matches.page-size:500}") int pageSize,
+            @Value("${matching.top-matches.concurrency:0}") int concurrency,
+            @Value("${matching.top-matches.max-k:200}") int maxK) {
+        this.cvMasterStoreService = cvMasterStoreService;
+        this.matchingService = matchingService;
+        this.jobRepository = jobRepository;
+        this.jobProfileCache = jobProfileCache;
+        this.cvTextIndex = cvTextIndex;
+        this.executor = executor;
+        this.scoringService = new MatchingScoringService(meterRegistry);
+        this.pageSize = Math.max(pageSize, 1);
+        this.concurrency = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        this.maxK = Math.max(maxK, 1);
+    }
+
+    public Optional<TopMatchResult> topMatches(Long cvMasterId, Options options, int k) {
+        CvMasterEntity cvMaster = cvMasterStoreService.findEntity(cvMasterId).orElse(null);
+        if (cvMaster == null) {
+            return Optional.empty();
+        }
+        int bounded = Math.min(Math.max(k, 1), maxK);
+        MatchProfile profile = matchingService.loadProfile(cvMaster);
+        TextRelevanceStrategy strategy = options != null ? options.getTextRelevanceStrategy() : null;
+        TopKHeap<TopMatch> best = new TopKHeap<>(bounded, WORST_FIRST);
+        AtomicInteger scanned = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        // Each permit is one page being scored; the next page is fetched while earlier ones are still in flight.
+        Semaphore permits = new Semaphore(concurrency);
+        long afterId = 0L;
+        // Every page scores the same CV, so its text index document is resolved once for the whole request;
+        // it is closed only after the catch below has waited for pages still in flight.
+        try (CvTextIndex.CandidateScorer textScorer = cvTextIndex.scorer(cvMasterId)) {
+            try {
+                while (true) {
+                    List<JobPostingNormalized> page = jobRepository.findByIdGreaterThanOrderByIdAsc(
+                            afterId, PageRequest.of(0, pageSize));
+                    if (page.isEmpty()) {
+                        break;
+                    }
+                    afterId = page.get(page.size() - 1).getId();
+                    permits.acquire();
+                    tasks.add(CompletableFuture.runAsync(() -> {
+                        TopKHeap<TopMatch> local = scorePage(cvMasterId, profile, textScorer, page, options, strategy,
+                                bounded, failed, cancelled);
+                        if (cancelled.get()) {
+                            return;
+                        }
+                        synchronized (best) {
+                            best.merge(local);
+                        }
+                        scanned.addAndGet(page.size());
+                    }, executor).whenComplete((ignored, ex) -> {
+                        if (ex != null) {
+                            failed.addAndGet(page.size());
+                            logger.info("Top matches page failed cvMasterId={} lastJobPostingId={} message={}",
+                                    cvMasterId, page.get(page.size() - 1).getId(), ex.getMessage());
+                        }
+                        permits.release();
+                    }));
+                    if (page.size() < pageSize) {
+                        break;
+                    }
+                }
+                permits.acquire(concurrency);
+                permits.release(concurrency);
+            } catch (InterruptedException ex) {
+                // Pages still in flight stop early and skip the merge; wait for them so nothing writes to best
+                // after this.
+                cancelled.set(true);
+                CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                        .handle((ignored, error) -> null)
+                        .join();
+                Thread.currentThread().interrupt();
+                logger.info("Top matches interrupted cvMasterId={} scanned={}", cvMasterId, scanned.get());
+            }
+        }
+
+        List<TopMatch> matches;
+        synchronized (best) {
+            matches = best.toSortedList();
+        }
+        logger.info("Top matches computed cvMasterId={} k={} scanned={} failed={}",
+                cvMasterId, bounded, scanned.get(), failed.get());
+        return Optional.of(new TopMatchResult(cvMasterId, scanned.get(), failed.get(), matches));
+    }
+
+    private TopKHeap<TopMatch> scorePage(Long cvMasterId,
+                                         MatchProfile profile,
+                                         CvTextIndex.CandidateScorer textScorer,
+                                         List<JobPostingNormalized> page,
+                                         Options options,
+                                         TextRelevanceStrategy strategy,
+                                         int k,
+                                         AtomicInteger failed,
+                                         AtomicBoolean cancelled) {
+        TopKHeap<TopMatch> local = new TopKHeap<>(k, WORST_FIRST);
+        for (JobPostingNormalized job : page) {
+            if (cancelled.get()) {
+                break;
+            }
+            try {
+                JobProfile jobProfile = jobProfileCache.get(job);
+                Double textRelevance = textScorer.score(jobProfile.getQuery(), strategy).orElse(null);
+                CvGenerated.Meta meta = scoringService.buildMeta(profile, jobProfile, options, textRelevance);
+                Double score = meta.getMatchingScoreOverall();
+                local.offer(new TopMatch(job, score != null ? score : 0.0, meta.getMatchingDetails()));
+            } catch (Exception ex) {
+                failed.incrementAndGet();
+                logger.info("Top matches failed cvMasterId={} jobPostingId={} message={}",
+                        cvMasterId, job.getId(), ex.getMessage());
+            }
+        }
+        return local;
+    }
+
+    public static class TopMatch {
+        private final Long jobPostingId;
+        private final String jobTitle;
+        private final String company;
+        private final String location;
+        private final double score;
+        private final CvGenerated.MatchingDetails details;
+
+        public TopMatch(JobPostingNormalized job, double score, CvGenerated.MatchingDetails details) {
+            this.jobPostingId = job.getId();
+            this.jobTitle = job.getTitle();
+            this.company = job.getCompany();
+            this.location = job.getLocation();
+            this.score = score;
+            this.details = details;
+        }
+
+        public Long getJobPostingId() {
+            return jobPostingId;
+        }
+
+        public String getJobTitle() {
+            return jobTitle;
+        }
+
+        public String getCompany() {
+            return company;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public CvGenerated.MatchingDetails getDetails() {
+            return details;
+        }
+    }
+
+    public static class TopMatchResult {
+        private final Long cvMasterId;
+        private final int scannedJobs;
+        private final int failed;
+        private final List<TopMatch> matches;
+
+        public TopMatchResult(Long cvMasterId, int scannedJobs, int failed, List<TopMatch> matches) {
+            this.cvMasterId = cvMasterId;
+            this.scannedJobs = scannedJobs;
+            this.failed = failed;
+            this.matches = matches;
+        }
+
+        public Long getCvMasterId() {
+            return cvMasterId;
+        }
+
+        public int getScannedJobs() {
+            return scannedJobs;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public List<TopMatch> getMatches() {
+            return matches;
+        }
+    }
+}
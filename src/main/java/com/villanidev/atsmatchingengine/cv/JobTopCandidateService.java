@@ -0,0 +1,286 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.domain.TextRelevanceStrategy;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.matching.index.CvSkillIndex;
+import com.villanidev.atsmatchingengine.matching.index.CvTextIndex;
+import com.villanidev.atsmatchingengine.matching.profile.CvProfileStore;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfileCache;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.ranking.TopKHeap;
+import com.villanidev.atsmatchingengine.matching.scoring.MatchingScoringService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class JobTopCandidateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobTopCandidateService.class);
+
+    private static final Comparator<TopCandidate> WORST_FIRST = Comparator
+            .comparingDouble(TopCandidate::getScore)
+            .thenComparing(TopCandidate::getCvMasterId, Comparator.reverseOrder());
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final MatchingScoringService scoringService;
+    private final CvMasterStoreService cvMasterStoreService;
+    private final JobPostingNormalizedRepository jobRepository;
+    private final JobProfileCache jobProfileCache;
+    private final CvProfileStore cvProfileStore;
+    private final CvSkillIndex cvSkillIndex;
+    private final CvTextIndex cvTextIndex;
+    private final Executor executor;
+    private final int prefilterMinMustHaveMatches;
+    private final int concurrency;
+    private final int maxK;
+
+    public JobTopCandidateService(
+            CvMasterStoreService cvMasterStoreService,
+            JobPostingNormalizedRepository jobRepository,
+            JobProfileCache jobProfileCache,
+            CvProfileStore cvProfileStore,
+            CvSkillIndex cvSkillIndex,
+            CvTextIndex cvTextIndex,
+            @Qualifier("eltTaskExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${matching.prefilter.min-must-have-matches:0}") int prefilterMinMustHaveMatches,
+            @Value("${matching.top-candidates.concurrency:0}") int concurrency,
+            @Value("${matching.top-candidates.max-k:200}") int maxK) {
+        this.cvMasterStoreService = cvMasterStoreService;
+        this.jobRepository = jobRepository;
+        this.jobProfileCache = jobProfileCache;
+        this.cvProfileStore = cvProfileStore;
+        this.cvSkillIndex = cvSkillIndex;
+        this.cvTextIndex = cvTextIndex;
+        this.executor = executor;
+        this.scoringService = new MatchingScoringService(meterRegistry);
+        this.prefilterMinMustHaveMatches = prefilterMinMustHaveMatches;
+        this.concurrency = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        this.maxK = Math.max(maxK, 1);
+    }
+
+    public Optional<TopCandidateResult> topCandidates(Long jobPostingId, Options options, int k, boolean prefilter) {
+        JobPostingNormalized normalized = jobRepository.findById(jobPostingId).orElse(null);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        int bounded = Math.min(Math.max(k, 1), maxK);
+        JobProfile jobProfile = jobProfileCache.get(normalized);
+        // An explicit prefilter request needs at least one must-have hit even when the global minimum is 0.
+        // Without it every stored CV is a candidate, resident in the profile store or not.
+        long[] candidates = prefilter
+                ? cvSkillIndex.findCandidates(jobProfile.getJob(), Math.max(prefilterMinMustHaveMatches, 1))
+                : cvMasterStoreService.listIds().stream().mapToLong(Long::longValue).toArray();
+
+        // One pass over the text index scores every CV; CVs without a hit have zero text relevance.
+        TextRelevanceStrategy strategy = options != null ? options.getTextRelevanceStrategy() : null;
+        Map<Long, Double> textScores = cvTextIndex.scoreAll(jobProfile.getQuery(), strategy);
+
+        AtomicInteger scanned = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger unranked = new AtomicInteger();
+        AtomicInteger loaded = new AtomicInteger();
+        int chunks = Math.max(1, Math.min(concurrency, candidates.length));
+        int chunkSize = (candidates.length + chunks - 1) / Math.max(chunks, 1);
+        List<CompletableFuture<TopKHeap<TopCandidate>>> futures = new ArrayList<>();
+        for (int from = 0; from < candidates.length; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, candidates.length);
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> scoreRange(candidates, start, end, jobProfile, options, textScores, bounded,
+                            scanned, failed, unranked, loaded),
+                    executor));
+        }
+
+        TopKHeap<TopCandidate> best = new TopKHeap<>(bounded, WORST_FIRST);
+        for (CompletableFuture<TopKHeap<TopCandidate>> future : futures) {
+            best.merge(future.join());
+        }
+        logger.info("Top candidates computed jobPostingId={} k={} candidates={} scanned={} failed={} loaded={} "
+                        + "unranked={}",
+                jobPostingId, bounded, candidates.length, scanned.get(), failed.get(), loaded.get(), unranked.get());
+        return Optional.of(new TopCandidateResult(jobPostingId, scanned.get(), failed.get(), unranked.get(),
+                best.toSortedList()));
+    }
+
+    private TopKHeap<TopCandidate> scoreRange(long[] candidates,
+                                              int start,
+                                              int end,
+                                              JobProfile jobProfile,
+                                              Options options,
+                                              Map<Long, Double> textScores,
+                                              int k,
+                                              AtomicInteger scanned,
+                                              AtomicInteger failed,
+                                              AtomicInteger unranked,
+                                              AtomicInteger loaded) {
+        TopKHeap<TopCandidate> local = new TopKHeap<>(k, WORST_FIRST);
+        List<Long> missing = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            Long cvMasterId = candidates[i];
+            MatchProfile profile = cvProfileStore.get(cvMasterId).orElse(null);
+            if (profile == null) {
+                missing.add(cvMasterId);
+                continue;
+            }
+            score(local, cvMasterId, profile, jobProfile, options, textScores, scanned, failed);
+        }
+
+        // CVs over the store's cap, or not yet re-admitted after a taxonomy reload, are read from storage in batches.
+        for (int from = 0; from < missing.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + LOAD_BATCH_SIZE, missing.size()));
+            Map<Long, CvMaster> cvMasters;
+            try {
+                cvMasters = cvMasterStoreService.loadCvMasters(batch);
+            } catch (RuntimeException ex) {
+                unranked.addAndGet(batch.size());
+                logger.info("Top candidates failed to load CVs jobPostingId={} count={} message={}",
+                        jobProfile.getJob().getId(), batch.size(), ex.getMessage());
+                continue;
+            }
+            for (Long cvMasterId : batch) {
+                CvMaster cvMaster = cvMasters.get(cvMasterId);
+                MatchProfile profile = cvMaster != null ? profileOf(cvMasterId, cvMaster) : null;
+                if (profile == null) {
+                    unranked.incrementAndGet();
+                    continue;
+                }
+                loaded.incrementAndGet();
+                cvProfileStore.offer(cvMasterId, profile);
+                score(local, cvMasterId, profile, jobProfile, options, textScores, scanned, failed);
+            }
+        }
+        return local;
+    }
+
+    private void score(TopKHeap<TopCandidate> local,
+                       Long cvMasterId,
+                       MatchProfile profile,
+                       JobProfile jobProfile,
+                       Options options,
+                       Map<Long, Double> textScores,
+                       AtomicInteger scanned,
+                       AtomicInteger failed) {
+        try {
+            CvGenerated.Meta meta = scoringService.buildMeta(
+                    profile, jobProfile, options, textScores.getOrDefault(cvMasterId, 0.0));
+            Double score = meta.getMatchingScoreOverall();
+            local.offer(new TopCandidate(cvMasterId, profile.getCvMaster(), score != null ? score : 0.0,
+                    meta.getMatchingDetails()));
+            scanned.incrementAndGet();
+        } catch (Exception ex) {
+            failed.incrementAndGet();
+            logger.info("Top candidates failed cvMasterId={} jobPostingId={} message={}",
+                    cvMasterId, jobProfile.getJob().getId(), ex.getMessage());
+        }
+    }
+
+    private MatchProfile profileOf(Long cvMasterId, CvMaster cvMaster) {
+        try {
+            return MatchProfile.of(cvMaster);
+        } catch (RuntimeException ex) {
+            logger.info("Failed to build match profile cvMasterId={} message={}", cvMasterId, ex.getMessage());
+            return null;
+        }
+    }
+
+    public static class TopCandidate {
+        private final Long cvMasterId;
+        private final String name;
+        private final String title;
+        private final double score;
+        private final CvGenerated.MatchingDetails details;
+
+        public TopCandidate(Long cvMasterId, CvMaster cvMaster, double score, CvGenerated.MatchingDetails details) {
+            this.cvMasterId = cvMasterId;
+            this.name = cvMaster.getName();
+            this.title = cvMaster.getTitle();
+            this.score = score;
+            this.details = details;
+        }
+
+        public Long getCvMasterId() {
+            return cvMasterId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public CvGenerated.MatchingDetails getDetails() {
+            return details;
+        }
+    }
+
+    public static class TopCandidateResult {
+        private final Long jobPostingId;
+        private final int scannedCvs;
+        private final int failed;
+        private final int unrankedCvs;
+        private final List<TopCandidate> candidates;
+
+        public TopCandidateResult(Long jobPostingId,
+                                  int scannedCvs,
+                                  int failed,
+                                  int unrankedCvs,
+                                  List<TopCandidate> candidates) {
+            this.jobPostingId = jobPostingId;
+            this.scannedCvs = scannedCvs;
+            this.failed = failed;
+            this.unrankedCvs = unrankedCvs;
+            this.candidates = candidates;
+        }
+
+        public Long getJobPostingId() {
+            return jobPostingId;
+        }
+
+        public int getScannedCvs() {
+            return scannedCvs;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        // Candidates that could not be loaded or profiled; the ranking only covers the rest.
+        public int getUnrankedCvs() {
+            return unrankedCvs;
+        }
+
+        public boolean isTruncated() {
+            return unrankedCvs > 0;
+        }
+
+        public List<TopCandidate> getCandidates() {
+            return candidates;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.villanidev.atsmatchingengine.cv;
 
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
-import com.villanidev.atsmatchingengine.shared.CandidateSkillCollector;
-import com.villanidev.atsmatchingengine.shared.SkillNormalizer;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.profile.RequirementIds;
+import com.villanidev.atsmatchingengine.matching.scoring.ScoringContext;
+import com.villanidev.atsmatchingengine.shared.SkillDictionary;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -16,27 +18,36 @@ import java.util.Set;
 @Service
 public class SkillRanker {
 
-    private final CandidateSkillCollector skillCollector = new CandidateSkillCollector();
-    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
+    private final SkillDictionary skillDictionary = SkillDictionary.getInstance();
 
     public List<String> rankSkills(CvMaster cvMaster, Job job) {
-        Set<String> candidateSkills = skillCollector.collectSkills(cvMaster);
+        return rankSkills(MatchProfile.of(cvMaster), job);
+    }
+
+    public List<String> rankSkills(MatchProfile profile, Job job) {
+        return rankSkills(profile, RequirementIds.of(job));
+    }
+
+    public List<String> rankSkills(ScoringContext context) {
+        return rankSkills(context.getProfile(), context.getRequirementIds());
+    }
+
+    private List<String> rankSkills(MatchProfile profile, RequirementIds requirementIds) {
+        Set<String> candidateSkills = profile.getSkills();
         Map<String, Double> scores = new HashMap<>();
 
-        List<String> mustHave = job.getRequirements() != null && job.getRequirements().getMustHaveSkills() != null
-                ? job.getRequirements().getMustHaveSkills() : List.of();
-        List<String> niceToHave = job.getRequirements() != null && job.getRequirements().getNiceToHaveSkills() != null
-                ? job.getRequirements().getNiceToHaveSkills() : List.of();
-        List<String> tools = job.getRequirements() != null && job.getRequirements().getTools() != null
-                ? job.getRequirements().getTools() : List.of();
+        int[] mustHave = requirementIds.getMustHaveSkillIds();
+        int[] niceToHave = requirementIds.getNiceToHaveSkillIds();
+        int[] tools = requirementIds.getToolIds();
 
         for (String skill : candidateSkills) {
+            int skillId = skillDictionary.idOf(skill);
             double score = 0.0;
-            if (mustHave.stream().anyMatch(required -> skillNormalizer.skillMatches(skill, required))) {
+            if (SkillDictionary.contains(mustHave, skillId)) {
                 score = 2.0;
-            } else if (niceToHave.stream().anyMatch(required -> skillNormalizer.skillMatches(skill, required))) {
+            } else if (SkillDictionary.contains(niceToHave, skillId)) {
                 score = 1.0;
-            } else if (tools.stream().anyMatch(required -> skillNormalizer.skillMatches(skill, required))) {
+            } else if (SkillDictionary.contains(tools, skillId)) {
                 score = 0.5;
             }
             scores.put(skill, score);
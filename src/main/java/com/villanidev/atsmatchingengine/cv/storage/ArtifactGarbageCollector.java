@@ -0,0 +1,51 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArtifactGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactGarbageCollector.class);
+
+    private final CvGeneratedRepository repository;
+    private final FileArtifactStore artifactStore;
+    private final Duration grace;
+
+    public ArtifactGarbageCollector(CvGeneratedRepository repository,
+                                    FileArtifactStore artifactStore,
+                                    @Value("${artifacts.gc.grace-ms:3600000}") long graceMs) {
+        this.repository = repository;
+        this.artifactStore = artifactStore;
+        this.grace = Duration.ofMillis(Math.max(graceMs, 0));
+    }
+
+    // The grace period covers a document that was rendered and stored but not yet attached to its row.
+    @Scheduled(fixedDelayString = "${artifacts.gc.interval-ms:3600000}",
+            initialDelayString = "${artifacts.gc.interval-ms:3600000}")
+    public void collectScheduled() {
+        try {
+            collect();
+        } catch (Exception ex) {
+            logger.info("Artifact garbage collection failed. message={}", ex.getMessage());
+        }
+    }
+
+    public int collect() {
+        Instant cutoff = Instant.now().minus(grace);
+        Set<String> referenced = new HashSet<>(repository.findPdfArtifactHashes());
+        referenced.addAll(repository.findDocxArtifactHashes());
+        int deleted = artifactStore.deleteUnreferenced(referenced, cutoff);
+        if (deleted > 0) {
+            logger.info("Deleted {} unreferenced artifacts (referenced={})", deleted, referenced.size());
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,105 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CvGeneratedArtifactMigrator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvGeneratedArtifactMigrator.class);
+
+    private static final int PAGE_SIZE = 100;
+    static final String DONE_MARKER = "inline-documents-migrated";
+
+    private final CvGeneratedRepository repository;
+    private final CvGeneratedStoreService storeService;
+    private final FileArtifactStore artifactStore;
+    private final Executor executor;
+    private final boolean enabled;
+
+    public CvGeneratedArtifactMigrator(CvGeneratedRepository repository,
+                                       CvGeneratedStoreService storeService,
+                                       FileArtifactStore artifactStore,
+                                       @Qualifier("eltTaskExecutor") Executor executor,
+                                       @Value("${artifacts.migration.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.storeService = storeService;
+        this.artifactStore = artifactStore;
+        this.executor = executor;
+        this.enabled = enabled;
+    }
+
+    // The payload scan is a full LIKE scan of cv_generated, so it runs off the startup thread and only until
+    // one pass completes without errors.
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || artifactStore.hasMarker(DONE_MARKER)) {
+            return;
+        }
+        executor.execute(this::migrateAll);
+    }
+
+    int migrateAll() {
+        int migrated = 0;
+        int failed = 0;
+        long afterId = 0L;
+        try {
+            while (true) {
+                List<CvGeneratedEntity> page = repository.findWithInlineDocumentsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                for (CvGeneratedEntity entity : page) {
+                    afterId = entity.getId();
+                    if (migrate(entity)) {
+                        migrated++;
+                    } else {
+                        failed++;
+                    }
+                }
+            }
+        } catch (Exception ex) {
+            logger.info("Failed to move inline CV documents to the artifact store. message={}", ex.getMessage());
+            return migrated;
+        }
+        logger.info("Moved inline PDF/DOCX of {} generated CVs to the artifact store failed={}", migrated, failed);
+        if (failed == 0) {
+            artifactStore.writeMarker(DONE_MARKER);
+        }
+        return migrated;
+    }
+
+    private boolean migrate(CvGeneratedEntity entity) {
+        try {
+            CvGenerated generated = storeService.readPayload(entity);
+            CvGenerated.Output output = generated.getOutput();
+            if (output == null || (output.getPdfBase64() == null && output.getDocxBase64() == null)) {
+                return true;
+            }
+            if (output.getPdfBase64() != null) {
+                entity.setPdfArtifactHash(artifactStore.put(Base64.getDecoder().decode(output.getPdfBase64())));
+                output.setPdfBase64(null);
+            }
+            if (output.getDocxBase64() != null) {
+                entity.setDocxArtifactHash(artifactStore.put(Base64.getDecoder().decode(output.getDocxBase64())));
+                output.setDocxBase64(null);
+            }
+            entity.setPayloadJson(storeService.toJson(generated));
+            repository.save(entity);
+            return true;
+        } catch (Exception ex) {
+            logger.info("Skipping generated CV id={} during artifact migration message={}", entity.getId(), ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
@@ -14,7 +15,8 @@ import java.time.LocalDateTime;
 public class CvGeneratedEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cv_generated_seq")
+    @SequenceGenerator(name = "cv_generated_seq", sequenceName = "cv_generated_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -35,6 +37,12 @@ public class CvGeneratedEntity {
 
     private LocalDateTime createdAt;
 
+    @Column(length = 64)
+    private String pdfArtifactHash;
+
+    @Column(length = 64)
+    private String docxArtifactHash;
+
     public Long getId() {
         return id;
     }
@@ -98,4 +106,20 @@ public class CvGeneratedEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public String getPdfArtifactHash() {
+        return pdfArtifactHash;
+    }
+
+    public void setPdfArtifactHash(String pdfArtifactHash) {
+        this.pdfArtifactHash = pdfArtifactHash;
+    }
+
+    public String getDocxArtifactHash() {
+        return docxArtifactHash;
+    }
+
+    public void setDocxArtifactHash(String docxArtifactHash) {
+        this.docxArtifactHash = docxArtifactHash;
+    }
 }
@@ -1,7 +1,12 @@
 package com.villanidev.atsmatchingengine.cv.storage;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CvGeneratedRepository extends JpaRepository<CvGeneratedEntity, Long> {
 
@@ -10,4 +15,31 @@ public interface CvGeneratedRepository extends JpaRepository<CvGeneratedEntity,
     List<CvGeneratedEntity> findByCvMasterIdAndJobPostingId(Long cvMasterId, Long jobPostingId);
 
     boolean existsByCvMasterIdAndJobPostingId(Long cvMasterId, Long jobPostingId);
+
+    // A posting re-normalized after its CV was generated (content changed) no longer counts as generated.
+    @Query("select g.jobPostingId from CvGeneratedEntity g, JobPostingNormalized j "
+            + "where g.cvMasterId = :cvMasterId and j.id = g.jobPostingId "
+            + "and (j.normalizedAt is null or g.createdAt is null or g.createdAt >= j.normalizedAt)")
+    List<Long> findCurrentJobPostingIdsByCvMasterId(@Param("cvMasterId") Long cvMasterId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CvGeneratedEntity g SET g.pdfArtifactHash = :hash WHERE g.id = :id")
+    int updatePdfArtifactHash(@Param("id") Long id, @Param("hash") String hash);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CvGeneratedEntity g SET g.docxArtifactHash = :hash WHERE g.id = :id")
+    int updateDocxArtifactHash(@Param("id") Long id, @Param("hash") String hash);
+
+    @Query("SELECT g.pdfArtifactHash FROM CvGeneratedEntity g WHERE g.pdfArtifactHash IS NOT NULL")
+    List<String> findPdfArtifactHashes();
+
+    @Query("SELECT g.docxArtifactHash FROM CvGeneratedEntity g WHERE g.docxArtifactHash IS NOT NULL")
+    List<String> findDocxArtifactHashes();
+
+    @Query("SELECT g FROM CvGeneratedEntity g WHERE g.id > :afterId "
+            + "AND (g.payloadJson LIKE '%base64\" : \"%' OR g.payloadJson LIKE '%base64\":\"%') "
+            + "ORDER BY g.id ASC")
+    List<CvGeneratedEntity> findWithInlineDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
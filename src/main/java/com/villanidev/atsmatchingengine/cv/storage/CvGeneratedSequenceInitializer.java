@@ -0,0 +1,39 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import com.villanidev.atsmatchingengine.shared.DatabaseDialect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CvGeneratedSequenceInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvGeneratedSequenceInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    public CvGeneratedSequenceInitializer(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!databaseDialect.isPostgres()) {
+            return;
+        }
+        try {
+            // Rows written while ids were IDENTITY can sit above the new sequence; move it past them once.
+            jdbcTemplate.execute(
+                    "SELECT setval('cv_generated_seq', (SELECT COALESCE(MAX(id), 0) FROM cv_generated) + 50) "
+                            + "WHERE (SELECT last_value FROM cv_generated_seq) "
+                            + "<= (SELECT COALESCE(MAX(id), 0) FROM cv_generated)");
+        } catch (Exception ex) {
+            logger.info("Failed to align cv_generated sequence. message={}", ex.getMessage());
+        }
+    }
+}
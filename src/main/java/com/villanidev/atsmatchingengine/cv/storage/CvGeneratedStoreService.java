@@ -2,8 +2,11 @@ package com.villanidev.atsmatchingengine.cv.storage;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import com.villanidev.atsmatchingengine.rendering.DocumentFormat;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -23,6 +26,24 @@ public class CvGeneratedStoreService {
                                   String jobLocation,
                                   Double matchingScore,
                                   CvGenerated cvGenerated) {
+        return repository.save(newEntity(cvMasterId, jobPostingId, jobTitle, jobLocation, matchingScore, cvGenerated));
+    }
+
+    public CvGeneratedEntity save(CvGeneratedEntity entity) {
+        return repository.save(entity);
+    }
+
+    public List<CvGeneratedEntity> saveAll(List<CvGeneratedEntity> entities) {
+        // One transaction; with sequence ids and hibernate.jdbc.batch_size the rows go out as JDBC batches.
+        return repository.saveAll(entities);
+    }
+
+    public CvGeneratedEntity newEntity(Long cvMasterId,
+                                       Long jobPostingId,
+                                       String jobTitle,
+                                       String jobLocation,
+                                       Double matchingScore,
+                                       CvGenerated cvGenerated) {
         CvGeneratedEntity entity = new CvGeneratedEntity();
         entity.setCvMasterId(cvMasterId);
         entity.setJobPostingId(jobPostingId);
@@ -31,7 +52,45 @@ public class CvGeneratedStoreService {
         entity.setMatchingScore(matchingScore);
         entity.setPayloadJson(toJson(cvGenerated));
         entity.setCreatedAt(LocalDateTime.now());
-        return repository.save(entity);
+        return entity;
+    }
+
+    public long[] findGeneratedJobIds(Long cvMasterId) {
+        long[] ids = repository.findCurrentJobPostingIdsByCvMasterId(cvMasterId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    public static boolean containsJob(long[] generatedJobIds, Long jobPostingId) {
+        return jobPostingId != null && Arrays.binarySearch(generatedJobIds, jobPostingId) >= 0;
+    }
+
+    public Optional<CvGeneratedEntity> findEntity(Long id) {
+        return repository.findById(id);
+    }
+
+    public CvGenerated readPayload(CvGeneratedEntity entity) {
+        try {
+            return objectMapper.readValue(entity.getPayloadJson(), CvGenerated.class);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to deserialize CvGenerated", ex);
+        }
+    }
+
+    public String artifactHash(CvGeneratedEntity entity, DocumentFormat format) {
+        return switch (format) {
+            case PDF -> entity.getPdfArtifactHash();
+            case DOCX -> entity.getDocxArtifactHash();
+        };
+    }
+
+    public void attachArtifact(Long id, DocumentFormat format, String hash) {
+        switch (format) {
+            case PDF -> repository.updatePdfArtifactHash(id, hash);
+            case DOCX -> repository.updateDocxArtifactHash(id, hash);
+        }
     }
 
     public List<CvGeneratedEntity> listByCvMaster(Long cvMasterId) {
@@ -42,7 +101,7 @@ public class CvGeneratedStoreService {
         return repository.findByCvMasterIdAndJobPostingId(cvMasterId, jobPostingId);
     }
 
-    private String toJson(CvGenerated cvGenerated) {
+    public String toJson(CvGenerated cvGenerated) {
         try {
             return objectMapper.writeValueAsString(cvGenerated);
         } catch (Exception ex) {
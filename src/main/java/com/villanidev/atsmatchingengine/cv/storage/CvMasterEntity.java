@@ -34,6 +34,10 @@ public class CvMasterEntity {
 
     private LocalDateTime updatedAt;
 
+    private LocalDateTime matchedThroughNormalizedAt;
+
+    private Long matchedThroughJobId;
+
     public Long getId() {
         return id;
     }
@@ -89,4 +93,20 @@ public class CvMasterEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public LocalDateTime getMatchedThroughNormalizedAt() {
+        return matchedThroughNormalizedAt;
+    }
+
+    public void setMatchedThroughNormalizedAt(LocalDateTime matchedThroughNormalizedAt) {
+        this.matchedThroughNormalizedAt = matchedThroughNormalizedAt;
+    }
+
+    public Long getMatchedThroughJobId() {
+        return matchedThroughJobId;
+    }
+
+    public void setMatchedThroughJobId(Long matchedThroughJobId) {
+        this.matchedThroughJobId = matchedThroughJobId;
+    }
 }
@@ -0,0 +1,20 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import java.util.Map;
+
+public interface CvMasterIndex {
+
+    void index(Long cvMasterId, CvMaster cvMaster);
+
+    void remove(Long cvMasterId);
+
+    // Rebuilds (startup, taxonomy reload) hand over every CV at once so an index can defer per-document work.
+    default void indexAll(Map<Long, CvMaster> cvMasters) {
+        cvMasters.forEach(this::index);
+    }
+
+    default boolean dependsOnTaxonomy() {
+        return true;
+    }
+}
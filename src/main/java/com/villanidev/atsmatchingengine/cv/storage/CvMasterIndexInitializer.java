@@ -0,0 +1,41 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyReloadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CvMasterIndexInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvMasterIndexInitializer.class);
+
+    private final CvMasterStoreService storeService;
+
+    public CvMasterIndexInitializer(CvMasterStoreService storeService) {
+        this.storeService = storeService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int indexed = storeService.rebuildIndexes();
+            logger.info("CvMaster indexes initialized with {} CVs", indexed);
+        } catch (Exception ex) {
+            logger.info("Failed to initialize CvMaster indexes. message={}", ex.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onTaxonomyReloaded(SkillTaxonomyReloadedEvent event) {
+        try {
+            int indexed = storeService.rebuildTaxonomyIndexes();
+            logger.info("CvMaster indexes rebuilt after taxonomy reload with {} CVs", indexed);
+        } catch (Exception ex) {
+            logger.info("Failed to rebuild CvMaster indexes after taxonomy reload. message={}", ex.getMessage());
+        }
+    }
+}
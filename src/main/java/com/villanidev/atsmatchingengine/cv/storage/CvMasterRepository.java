@@ -1,6 +1,24 @@
 package com.villanidev.atsmatchingengine.cv.storage;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CvMasterRepository extends JpaRepository<CvMasterEntity, Long> {
+
+    @Query("SELECT c.id FROM CvMasterEntity c ORDER BY c.id")
+    List<Long> findAllIds();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CvMasterEntity c SET c.matchedThroughNormalizedAt = :normalizedAt, c.matchedThroughJobId = :jobId "
+            + "WHERE c.id = :id AND c.updatedAt = :expectedUpdatedAt")
+    int updateMatchMark(@Param("id") Long id,
+                        @Param("expectedUpdatedAt") LocalDateTime expectedUpdatedAt,
+                        @Param("normalizedAt") LocalDateTime normalizedAt,
+                        @Param("jobId") Long jobId);
 }
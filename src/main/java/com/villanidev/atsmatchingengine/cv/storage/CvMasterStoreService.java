@@ -3,20 +3,31 @@ package com.villanidev.atsmatchingengine.cv.storage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CvMasterStoreService {
 
+    private static final Logger logger = LoggerFactory.getLogger(CvMasterStoreService.class);
+
     private final CvMasterRepository repository;
     private final ObjectMapper objectMapper;
+    private final List<CvMasterIndex> indexes;
 
-    public CvMasterStoreService(CvMasterRepository repository, ObjectMapper objectMapper) {
+    public CvMasterStoreService(CvMasterRepository repository, ObjectMapper objectMapper, List<CvMasterIndex> indexes) {
         this.repository = repository;
         this.objectMapper = objectMapper;
+        this.indexes = indexes;
     }
 
     public CvMasterEntity save(CvMaster cvMaster) {
@@ -25,9 +36,12 @@ public class CvMasterStoreService {
         entity.setTitle(cvMaster.getTitle());
         entity.setEmail(cvMaster.getEmail());
         entity.setPayloadJson(toJson(cvMaster));
-        entity.setCreatedAt(LocalDateTime.now());
-        entity.setUpdatedAt(LocalDateTime.now());
-        return repository.save(entity);
+        LocalDateTime now = now();
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+        CvMasterEntity saved = repository.save(entity);
+        indexes.forEach(index -> index.index(saved.getId(), cvMaster));
+        return saved;
     }
 
     public Optional<CvMasterEntity> update(Long id, CvMaster cvMaster) {
@@ -36,8 +50,13 @@ public class CvMasterStoreService {
             existing.setTitle(cvMaster.getTitle());
             existing.setEmail(cvMaster.getEmail());
             existing.setPayloadJson(toJson(cvMaster));
-            existing.setUpdatedAt(LocalDateTime.now());
-            return repository.save(existing);
+            existing.setUpdatedAt(now());
+            // A changed CV has to be matched against every job again.
+            existing.setMatchedThroughNormalizedAt(null);
+            existing.setMatchedThroughJobId(null);
+            CvMasterEntity saved = repository.save(existing);
+            indexes.forEach(index -> index.index(saved.getId(), cvMaster));
+            return saved;
         });
     }
 
@@ -46,6 +65,7 @@ public class CvMasterStoreService {
             return false;
         }
         repository.deleteById(id);
+        indexes.forEach(index -> index.remove(id));
         return true;
     }
 
@@ -58,12 +78,63 @@ public class CvMasterStoreService {
         return repository.findById(id).map(entity -> fromJson(entity.getPayloadJson()));
     }
 
+    // Unreadable payloads are left out, like in a rebuild.
+    public Map<Long, CvMaster> loadCvMasters(Collection<Long> ids) {
+        Map<Long, CvMaster> cvMasters = new HashMap<>();
+        for (CvMasterEntity entity : repository.findAllById(ids)) {
+            try {
+                cvMasters.put(entity.getId(), fromJson(entity.getPayloadJson()));
+            } catch (IllegalStateException ex) {
+                logger.info("Skipping unreadable CvMaster id={} message={}", entity.getId(), ex.getMessage());
+            }
+        }
+        return cvMasters;
+    }
+
+    public CvMaster readPayload(CvMasterEntity entity) {
+        return fromJson(entity.getPayloadJson());
+    }
+
     public Optional<CvMasterEntity> findEntity(Long id) {
         return repository.findById(id);
     }
 
+    public boolean advanceMatchMark(CvMasterEntity entity, LocalDateTime normalizedAt, Long jobId) {
+        return repository.updateMatchMark(entity.getId(), entity.getUpdatedAt(), normalizedAt, jobId) > 0;
+    }
+
+    // Columns keep microseconds; a nanosecond value in memory would never equal the stored one in the match mark guard.
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
     public List<Long> listIds() {
-        return repository.findAll().stream().map(CvMasterEntity::getId).collect(Collectors.toList());
+        return repository.findAllIds();
+    }
+
+    public int rebuildIndexes() {
+        return rebuild(indexes);
+    }
+
+    // Only indexes whose content is derived from the taxonomy need rebuilding after it changes.
+    public int rebuildTaxonomyIndexes() {
+        return rebuild(indexes.stream().filter(CvMasterIndex::dependsOnTaxonomy).collect(Collectors.toList()));
+    }
+
+    private int rebuild(List<CvMasterIndex> targets) {
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        Map<Long, CvMaster> cvMasters = new LinkedHashMap<>();
+        for (CvMasterEntity entity : repository.findAll()) {
+            try {
+                cvMasters.put(entity.getId(), fromJson(entity.getPayloadJson()));
+            } catch (IllegalStateException ex) {
+                logger.info("Skipping CvMaster id={} while rebuilding indexes message={}", entity.getId(), ex.getMessage());
+            }
+        }
+        targets.forEach(index -> index.indexAll(cvMasters));
+        return cvMasters.size();
     }
 
     private String toJson(CvMaster cvMaster) {
@@ -0,0 +1,133 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FileArtifactStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+
+    public FileArtifactStore(@Value("${artifacts.storage.directory:data/artifacts}") String directory) {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    public String put(byte[] content) {
+        String hash = sha256(content);
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            // Refreshed so garbage collection treats a re-used artifact as new until it is referenced again.
+            touch(target);
+            return hash;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            // Written to a temp file first so a reader never sees a partial artifact under its final name.
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try {
+                Files.write(temp, content);
+                moveIntoPlace(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to store artifact " + hash, ex);
+        }
+        return hash;
+    }
+
+    public Optional<Path> find(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    // Deletes stored artifacts (and abandoned temp files) not in referenced and last modified before cutoff.
+    public int deleteUnreferenced(Set<String> referenced, Instant cutoff) {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String name = path.getFileName().toString();
+                boolean artifact = HASH.matcher(name).matches();
+                if ((!artifact && !name.endsWith(".tmp")) || (artifact && referenced.contains(name))) {
+                    continue;
+                }
+                if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff) && Files.deleteIfExists(path)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to collect unreferenced artifacts", ex);
+        }
+        return deleted;
+    }
+
+    public boolean hasMarker(String name) {
+        return Files.exists(root.resolve(name));
+    }
+
+    public void writeMarker(String name) {
+        try {
+            Files.createDirectories(root);
+            Files.writeString(root.resolve(name), Instant.now().toString());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write marker " + name, ex);
+        }
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+        } catch (IOException ex) {
+            // Best effort; the artifact itself is intact.
+        }
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException ex) {
+            // Same hash, same bytes: another writer already stored it.
+        } catch (AtomicMoveNotSupportedException ex) {
+            if (!Files.exists(target)) {
+                Files.move(temp, target);
+            }
+        }
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -16,7 +16,7 @@ public class Options {
     private Double relevanceThreshold;
     
     @com.fasterxml.jackson.annotation.JsonProperty("output_formats")
-    private List<String> outputFormats; // structured, markdown
+    private List<String> outputFormats; // markdown, pdf, docx (returned inline by generate-from-db)
     
     @com.fasterxml.jackson.annotation.JsonProperty("section_order")
     private List<String> sectionOrder; // summary, skills, experience, education, certifications, languages
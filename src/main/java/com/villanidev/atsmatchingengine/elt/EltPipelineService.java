@@ -8,19 +8,25 @@ import com.villanidev.atsmatchingengine.elt.orchestration.EltExecutionItemStatus
 import com.villanidev.atsmatchingengine.elt.orchestration.EltExecutionService;
 import com.villanidev.atsmatchingengine.elt.orchestration.EltExecutionStatus;
 import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingRawBulkWriter;
 import com.villanidev.atsmatchingengine.elt.repository.JobPostingRawRepository;
 import com.villanidev.atsmatchingengine.elt.scraping.JobPortalScraper;
 import com.villanidev.atsmatchingengine.elt.scraping.JobPortalScraperRegistry;
 import com.villanidev.atsmatchingengine.elt.scraping.PortalConfig;
 import com.villanidev.atsmatchingengine.elt.scraping.PortalConfigRepository;
-import com.villanidev.atsmatchingengine.cv.CvBatchMatchingService;
+import com.villanidev.atsmatchingengine.cv.CvAutoMatchingService;
 import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
 import com.villanidev.atsmatchingengine.domain.Options;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,38 +41,52 @@ public class EltPipelineService {
     private static final Logger logger = LoggerFactory.getLogger(EltPipelineService.class);
 
     private final JobPostingRawRepository rawRepository;
+    private final JobPostingRawBulkWriter rawBulkWriter;
+    private final RawContentHasher contentHasher;
     private final JobPostingNormalizedRepository normalizedRepository;
     private final JobNormalizationService normalizationService;
     private final JobPortalScraperRegistry scraperRegistry;
     private final PortalConfigRepository portalConfigRepository;
     private final Executor eltExecutor;
     private final EltExecutionService executionService;
-    private final CvBatchMatchingService batchMatchingService;
+    private final CvAutoMatchingService autoMatchingService;
     private final CvMasterStoreService cvMasterStoreService;
+    private final List<EltStageListener> stageListeners;
+    private final Timer normalizeTimer;
+    private final Timer normalizeSkippedTimer;
     private final boolean autoMatchingEnabled;
     private final int autoMatchingLimit;
 
     public EltPipelineService(
             JobPostingRawRepository rawRepository,
+            JobPostingRawBulkWriter rawBulkWriter,
+            RawContentHasher contentHasher,
             JobPostingNormalizedRepository normalizedRepository,
             JobNormalizationService normalizationService,
             JobPortalScraperRegistry scraperRegistry,
             PortalConfigRepository portalConfigRepository,
             @Qualifier("eltTaskExecutor") Executor eltExecutor,
             EltExecutionService executionService,
-            CvBatchMatchingService batchMatchingService,
+            CvAutoMatchingService autoMatchingService,
             CvMasterStoreService cvMasterStoreService,
+            List<EltStageListener> stageListeners,
+            MeterRegistry meterRegistry,
             @Value("${elt.matching.auto.enabled:true}") boolean autoMatchingEnabled,
             @Value("${elt.matching.auto.limit:200}") int autoMatchingLimit) {
         this.rawRepository = rawRepository;
+        this.rawBulkWriter = rawBulkWriter;
+        this.contentHasher = contentHasher;
         this.normalizedRepository = normalizedRepository;
         this.normalizationService = normalizationService;
         this.scraperRegistry = scraperRegistry;
         this.portalConfigRepository = portalConfigRepository;
         this.eltExecutor = eltExecutor;
         this.executionService = executionService;
-        this.batchMatchingService = batchMatchingService;
+        this.autoMatchingService = autoMatchingService;
         this.cvMasterStoreService = cvMasterStoreService;
+        this.stageListeners = stageListeners;
+        this.normalizeTimer = meterRegistry.timer("elt.normalize.item", "outcome", "normalized");
+        this.normalizeSkippedTimer = meterRegistry.timer("elt.normalize.item", "outcome", "skipped");
         this.autoMatchingEnabled = autoMatchingEnabled;
         this.autoMatchingLimit = autoMatchingLimit;
     }
@@ -75,13 +95,7 @@ public class EltPipelineService {
         EltExecution execution = executionService.startExecution("SCHEDULED", "ALL");
         logger.info("ELT scheduled run started executionId={}", execution.getId());
         try {
-            ScrapeSummary summary = extractAllSources(execution);
-            List<JobPostingRaw> extracted = summary.items;
-            loadRawData(extracted);
-            executionService.updateCounts(execution, extracted.size(), null, null);
-            int normalizedCount = normalizeData();
-            executionService.updateCounts(execution, null, normalizedCount, null);
-            triggerAutoMatchingIfEnabled(execution);
+            ScrapeSummary summary = runStages(execution, () -> extractAllSources(execution));
             executionService.finishExecution(execution, summary.status, null);
             logger.info("ELT scheduled run finished executionId={}", execution.getId());
         } catch (Exception ex) {
@@ -96,13 +110,7 @@ public class EltPipelineService {
         EltExecution execution = executionService.startExecution("ON_DEMAND", "ALL");
         logger.info("ELT on-demand run started for all sources executionId={}", execution.getId());
         try {
-            ScrapeSummary summary = extractAllSources(execution);
-            List<JobPostingRaw> extracted = summary.items;
-            loadRawData(extracted);
-            executionService.updateCounts(execution, extracted.size(), null, null);
-            int normalizedCount = normalizeData();
-            executionService.updateCounts(execution, null, normalizedCount, null);
-            triggerAutoMatchingIfEnabled(execution);
+            ScrapeSummary summary = runStages(execution, () -> extractAllSources(execution));
             executionService.finishExecution(execution, summary.status, null);
             logger.info("ELT on-demand run finished for all sources executionId={}", execution.getId());
         } catch (Exception ex) {
@@ -117,13 +125,7 @@ public class EltPipelineService {
         EltExecution execution = executionService.startExecution("ON_DEMAND", sourceId != null ? sourceId : "UNKNOWN");
         logger.info("ELT on-demand run started for source={} executionId={}", sourceId, execution.getId());
         try {
-            ScrapeSummary summary = extractSource(execution, sourceId);
-            List<JobPostingRaw> extracted = summary.items;
-            loadRawData(extracted);
-            executionService.updateCounts(execution, extracted.size(), null, null);
-            int normalizedCount = normalizeData();
-            executionService.updateCounts(execution, null, normalizedCount, null);
-            triggerAutoMatchingIfEnabled(execution);
+            ScrapeSummary summary = runStages(execution, () -> extractSource(execution, sourceId));
             executionService.finishExecution(execution, summary.status, summary.message);
             logger.info("ELT on-demand run finished for source={} executionId={}", sourceId, execution.getId());
         } catch (Exception ex) {
@@ -133,6 +135,38 @@ public class EltPipelineService {
         return CompletableFuture.completedFuture(null);
     }
 
+    private ScrapeSummary runStages(EltExecution execution, Supplier<ScrapeSummary> extract) {
+        long started = System.nanoTime();
+        ScrapeSummary summary = extract.get();
+        List<JobPostingRaw> extracted = summary.items;
+        started = stageCompleted(execution, EltStage.EXTRACT, extracted.size(), started);
+
+        int loaded = loadRawData(extracted);
+        executionService.updateCounts(execution, extracted.size(), null, null);
+        started = stageCompleted(execution, EltStage.LOAD, loaded, started);
+
+        int normalizedCount = normalizeData();
+        executionService.updateCounts(execution, null, normalizedCount, null);
+        started = stageCompleted(execution, EltStage.NORMALIZE, normalizedCount, started);
+
+        if (autoMatchingEnabled) {
+            int generated = triggerAutoMatching(execution);
+            stageCompleted(execution, EltStage.MATCH, generated, started);
+        }
+        return summary;
+    }
+
+    private long stageCompleted(EltExecution execution, EltStage stage, int items, long startedNanos) {
+        long now = System.nanoTime();
+        Duration duration = Duration.ofNanos(now - startedNanos);
+        logger.info("ELT stage finished executionId={} stage={} items={} durationMs={}",
+                execution.getId(), stage, items, duration.toMillis());
+        for (EltStageListener listener : stageListeners) {
+            listener.onStageCompleted(execution, stage, items, duration);
+        }
+        return now;
+    }
+
     private ScrapeSummary extractAllSources(EltExecution execution) {
         List<PortalConfig> configs = portalConfigRepository.findByEnabledTrue();
         if (configs.isEmpty()) {
@@ -246,43 +280,20 @@ public class EltPipelineService {
         }
     }
 
-    private void loadRawData(List<JobPostingRaw> rawItems) {
+    private int loadRawData(List<JobPostingRaw> rawItems) {
         if (rawItems == null || rawItems.isEmpty()) {
             logger.info("No RAW data to load");
-            return;
-        }
-        List<JobPostingRaw> toPersist = rawItems.stream()
-                .filter(this::isNotDuplicate)
-                .toList();
-        if (toPersist.isEmpty()) {
-            logger.info("All RAW items already exist. Skipping load.");
-            return;
+            return 0;
         }
-        toPersist.forEach(item -> {
-            if (item.getFetchedAt() == null) {
-                item.setFetchedAt(LocalDateTime.now());
+        rawItems.forEach(item -> {
+            if (item != null) {
+                item.setContentHash(contentHasher.hash(item.getRawContent()));
             }
         });
-        rawRepository.saveAll(toPersist);
-        logger.info("Loaded {} RAW items", toPersist.size());
-    }
-
-    private boolean isNotDuplicate(JobPostingRaw item) {
-        if (item == null) {
-            return false;
-        }
-        String source = item.getSource();
-        String externalId = item.getExternalId();
-        String url = item.getUrl();
-        if (source != null && !source.isBlank() && externalId != null && !externalId.isBlank()) {
-            if (rawRepository.existsBySourceAndExternalId(source, externalId)) {
-                return false;
-            }
-        }
-        if (url != null && !url.isBlank()) {
-            return !rawRepository.existsByUrl(url);
-        }
-        return true;
+        JobPostingRawBulkWriter.LoadResult result = rawBulkWriter.load(rawItems);
+        logger.info("Loaded RAW items inserted={} changed={} unchanged={} conflicts={}",
+                result.getInserted(), result.getChanged(), result.getUnchanged(), result.getConflicts());
+        return result.getInserted() + result.getChanged();
     }
 
     private int normalizeData() {
@@ -293,8 +304,17 @@ public class EltPipelineService {
         }
         int normalizedCount = 0;
         for (JobPostingRaw raw : rawItems) {
+            long started = System.nanoTime();
             JobPostingNormalized normalized = normalizationService.normalize(raw).orElse(null);
+            (normalized != null ? normalizeTimer : normalizeSkippedTimer)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             if (normalized != null) {
+                if (raw.getNormalizedAt() != null) {
+                    // Content changed since the last normalization: update the job in place so its id stays stable
+                    // and the newer normalizedAt puts it back in every CV's match window.
+                    normalizedRepository.findFirstByRawIdOrderByIdDesc(raw.getId())
+                            .ifPresent(existing -> normalized.setId(existing.getId()));
+                }
                 normalizedRepository.save(normalized);
                 raw.setNormalized(true);
                 raw.setNormalizedAt(LocalDateTime.now());
@@ -306,21 +326,17 @@ public class EltPipelineService {
         return normalizedCount;
     }
 
-    private void triggerAutoMatchingIfEnabled(EltExecution execution) {
-        if (!autoMatchingEnabled) {
-            return;
-        }
+    private int triggerAutoMatching(EltExecution execution) {
         List<Long> cvMasterIds = cvMasterStoreService.listIds();
         if (cvMasterIds.isEmpty()) {
-            return;
-        }
-        Options options = new Options();
-        int generatedTotal = 0;
-        for (Long cvMasterId : cvMasterIds) {
-            CvBatchMatchingService.BatchResult result = batchMatchingService.runBatch(
-                    cvMasterId, options, autoMatchingLimit);
-            generatedTotal += result.getGenerated();
+            return 0;
         }
-        executionService.updateCounts(execution, null, null, generatedTotal);
+        CvAutoMatchingService.AutoMatchResult result = autoMatchingService.matchAll(
+                cvMasterIds,
+                new Options(),
+                autoMatchingLimit,
+                generated -> executionService.updateCounts(execution, null, null, generated));
+        executionService.updateCounts(execution, null, null, result.getGenerated());
+        return result.getGenerated();
     }
 }
@@ -0,0 +1,8 @@
+package com.villanidev.atsmatchingengine.elt;
+
+public enum EltStage {
+    EXTRACT,
+    LOAD,
+    NORMALIZE,
+    MATCH
+}
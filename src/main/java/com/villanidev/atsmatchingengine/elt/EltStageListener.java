@@ -0,0 +1,9 @@
+package com.villanidev.atsmatchingengine.elt;
+
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecution;
+import java.time.Duration;
+
+public interface EltStageListener {
+
+    void onStageCompleted(EltExecution execution, EltStage stage, int items, Duration duration);
+}
@@ -0,0 +1,24 @@
+package com.villanidev.atsmatchingengine.elt;
+
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecution;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EltStageMetrics implements EltStageListener {
+
+    private final MeterRegistry meterRegistry;
+
+    public EltStageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onStageCompleted(EltExecution execution, EltStage stage, int items, Duration duration) {
+        String name = stage.name().toLowerCase(Locale.ROOT);
+        meterRegistry.timer("elt.stage", "stage", name).record(duration);
+        meterRegistry.counter("elt.stage.items", "stage", name).increment(items);
+    }
+}
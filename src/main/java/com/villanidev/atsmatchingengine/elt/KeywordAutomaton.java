@@ -0,0 +1,213 @@
+package com.villanidev.atsmatchingengine.elt;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class KeywordAutomaton {
+
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final String[] keywords;
+    private final String[][] categories;
+    private final String[][] terms;
+
+    private KeywordAutomaton(char[][] edgeChars,
+                             int[][] edgeTargets,
+                             int[] fail,
+                             int[][] outputs,
+                             String[] keywords,
+                             String[][] categories,
+                             String[][] terms) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.keywords = keywords;
+        this.categories = categories;
+        this.terms = terms;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public void scan(String text, MatchListener listener) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int state = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            int next = child(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = child(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            for (int keywordId : outputs[state]) {
+                int start = i - keywords[keywordId].length() + 1;
+                if (isBoundary(normalized, start - 1) && isBoundary(normalized, i + 1)) {
+                    String[] keywordCategories = categories[keywordId];
+                    for (int target = 0; target < keywordCategories.length; target++) {
+                        listener.onMatch(keywordCategories[target], terms[keywordId][target]);
+                    }
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    private int child(int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : -1;
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(String category, String term);
+    }
+
+    public static final class Builder {
+
+        private final Map<String, List<String[]>> targetsByKeyword = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String category, String keyword) {
+            return add(category, keyword, keyword != null ? keyword.trim().toLowerCase(Locale.ROOT) : null);
+        }
+
+        public Builder add(String category, String keyword, String term) {
+            if (keyword == null || term == null) {
+                return this;
+            }
+            String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                return this;
+            }
+            List<String[]> targets = targetsByKeyword.computeIfAbsent(normalized, key -> new ArrayList<>());
+            boolean known = targets.stream().anyMatch(target -> target[0].equals(category) && target[1].equals(term));
+            if (!known) {
+                targets.add(new String[] {category, term});
+            }
+            return this;
+        }
+
+        public Builder addAll(String category, Iterable<String> keywords) {
+            if (keywords != null) {
+                keywords.forEach(keyword -> add(category, keyword));
+            }
+            return this;
+        }
+
+        public KeywordAutomaton build() {
+            String[] keywords = targetsByKeyword.keySet().toArray(new String[0]);
+            String[][] categories = new String[keywords.length][];
+            String[][] terms = new String[keywords.length][];
+
+            List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+            List<List<Integer>> terminal = new ArrayList<>();
+            transitions.add(new TreeMap<>());
+            terminal.add(new ArrayList<>());
+
+            for (int keywordId = 0; keywordId < keywords.length; keywordId++) {
+                List<String[]> targets = targetsByKeyword.get(keywords[keywordId]);
+                categories[keywordId] = targets.stream().map(target -> target[0]).toArray(String[]::new);
+                terms[keywordId] = targets.stream().map(target -> target[1]).toArray(String[]::new);
+                int state = 0;
+                for (char c : keywords[keywordId].toCharArray()) {
+                    Integer next = transitions.get(state).get(c);
+                    if (next == null) {
+                        next = transitions.size();
+                        transitions.add(new TreeMap<>());
+                        terminal.add(new ArrayList<>());
+                        transitions.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                terminal.get(state).add(keywordId);
+            }
+
+            int stateCount = transitions.size();
+            char[][] edgeChars = new char[stateCount][];
+            int[][] edgeTargets = new int[stateCount][];
+            for (int state = 0; state < stateCount; state++) {
+                TreeMap<Character, Integer> edges = transitions.get(state);
+                edgeChars[state] = new char[edges.size()];
+                edgeTargets[state] = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    edgeChars[state][i] = edge.getKey();
+                    edgeTargets[state][i] = edge.getValue();
+                    i++;
+                }
+            }
+
+            // Breadth-first pass: fail links point to the longest proper suffix that is also a trie prefix,
+            // and each state inherits the keywords ending at its fail state.
+            int[] fail = new int[stateCount];
+            int[][] outputs = new int[stateCount][];
+            outputs[0] = toArray(terminal.get(0));
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int target : edgeTargets[0]) {
+                fail[target] = 0;
+                outputs[target] = toArray(terminal.get(target));
+                queue.add(target);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < edgeChars[state].length; i++) {
+                    char c = edgeChars[state][i];
+                    int target = edgeTargets[state][i];
+                    int fallback = fail[state];
+                    int candidate = lookup(edgeChars, edgeTargets, fallback, c);
+                    while (candidate < 0 && fallback != 0) {
+                        fallback = fail[fallback];
+                        candidate = lookup(edgeChars, edgeTargets, fallback, c);
+                    }
+                    fail[target] = candidate < 0 ? 0 : candidate;
+                    outputs[target] = concat(toArray(terminal.get(target)), outputs[fail[target]]);
+                    queue.add(target);
+                }
+            }
+
+            return new KeywordAutomaton(edgeChars, edgeTargets, fail, outputs, keywords, categories, terms);
+        }
+
+        private static int lookup(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+            int index = Arrays.binarySearch(edgeChars[state], c);
+            return index >= 0 ? edgeTargets[state][index] : -1;
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            return values.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private static int[] concat(int[] first, int[] second) {
+            if (second.length == 0) {
+                return first;
+            }
+            int[] merged = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, merged, first.length, second.length);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.villanidev.atsmatchingengine.elt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RawContentHasher {
+
+    private final ObjectMapper canonicalMapper;
+
+    public RawContentHasher(ObjectMapper objectMapper) {
+        this.canonicalMapper = objectMapper.copy()
+                .disable(SerializationFeature.INDENT_OUTPUT)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    // Hashes compact, key-sorted JSON so field order and whitespace from a portal never count as a change.
+    public String hash(String rawContent) {
+        if (rawContent == null) {
+            return null;
+        }
+        return sha256(canonicalize(rawContent));
+    }
+
+    private byte[] canonicalize(String rawContent) {
+        try {
+            return canonicalMapper.writeValueAsBytes(canonicalMapper.readValue(rawContent, Object.class));
+        } catch (Exception ex) {
+            return rawContent.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -1,88 +1,76 @@
 package com.villanidev.atsmatchingengine.elt;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomy;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyReloadedEvent;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RequirementsExtractor {
 
-        private static final List<String> SKILL_DICTIONARY = List.of(
-            "java", "spring", "spring boot", "kotlin", "scala",
-            "python", "django", "flask", "fastapi",
-            "node", "node.js", "javascript", "typescript",
-            "go", "golang", "rust",
-            "postgres", "postgresql", "mysql", "mongodb",
-            "redis", "kafka",
-            "docker", "kubernetes", "k8s",
-            "aws", "azure", "gcp",
-            "microservices", "rest", "graphql",
-            "terraform", "ansible",
-            "ci/cd", "git", "linux"
-    );
+    private static final Logger logger = LoggerFactory.getLogger(RequirementsExtractor.class);
 
-        private static final List<String> TOOL_DICTIONARY = List.of(
-            "docker", "kubernetes", "k8s", "terraform", "ansible",
-            "git", "linux", "jenkins", "github actions", "gitlab ci",
-            "datadog", "new relic", "grafana", "prometheus"
-        );
+    static final String SKILLS = "skills";
+    static final String TOOLS = "tools";
+    static final String DOMAINS = "domains";
+    static final String METHODOLOGIES = "methodologies";
 
-        private static final List<String> DOMAIN_DICTIONARY = List.of(
-            "fintech", "healthtech", "e-commerce", "ecommerce", "saas",
-            "marketplace", "logistics", "edtech", "adtech"
-        );
+    private final Map<String, List<String>> dictionaries;
+    private volatile KeywordAutomaton automaton;
 
-        private static final List<String> METHODOLOGY_DICTIONARY = List.of(
-            "agile", "scrum", "kanban", "xp", "tdd", "bdd"
-        );
+    public RequirementsExtractor(
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            SkillTaxonomyService taxonomyService,
+            @Value("${elt.requirements.dictionary-location:classpath:requirements-dictionary.json}") String dictionaryLocation) {
+        this.dictionaries = loadDictionaries(resourceLoader.getResource(dictionaryLocation), objectMapper);
+        this.automaton = compile(taxonomyService.current());
+        logger.info("Requirements dictionary loaded location={} keywords={}", dictionaryLocation, automaton.size());
+    }
 
-    private static final List<Pattern> PATTERNS = List.of(
-            Pattern.compile("\\bjava\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bspring\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bspring\\s*boot\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bpython\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bnode(\\.js)?\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\btypescript\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bpostgres(ql)?\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bmysql\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bmongodb\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bredis\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bkafka\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bdocker\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bkubernetes|\\bk8s\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\baws\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bazure\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bgcp\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bmicroservices?\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\brest\\b", Pattern.CASE_INSENSITIVE),
-            Pattern.compile("\\bgraphql\\b", Pattern.CASE_INSENSITIVE)
-    );
+    @EventListener
+    public void onTaxonomyReloaded(SkillTaxonomyReloadedEvent event) {
+        this.automaton = compile(event.getTaxonomy());
+        logger.info("Requirements dictionary recompiled after taxonomy reload keywords={}", automaton.size());
+    }
 
     public RequirementsExtractionResult extractAll(String text) {
         if (text == null || text.isBlank()) {
             return new RequirementsExtractionResult(List.of(), List.of(), List.of(), List.of());
         }
-        String normalized = text.toLowerCase(Locale.ROOT);
 
         Set<String> skills = new LinkedHashSet<>();
         Set<String> tools = new LinkedHashSet<>();
         Set<String> domains = new LinkedHashSet<>();
         Set<String> methodologies = new LinkedHashSet<>();
 
-        matchDictionary(normalized, SKILL_DICTIONARY, skills);
-        matchDictionary(normalized, TOOL_DICTIONARY, tools);
-        matchDictionary(normalized, DOMAIN_DICTIONARY, domains);
-        matchDictionary(normalized, METHODOLOGY_DICTIONARY, methodologies);
-
-        for (Pattern pattern : PATTERNS) {
-            if (pattern.matcher(text).find()) {
-                skills.add(pattern.pattern().replace("\\b", "").replace("\\s*", " ").trim());
+        automaton.scan(text, (category, keyword) -> {
+            switch (category) {
+                case SKILLS -> skills.add(keyword);
+                case TOOLS -> tools.add(keyword);
+                case DOMAINS -> domains.add(keyword);
+                case METHODOLOGIES -> methodologies.add(keyword);
+                default -> {
+                }
             }
-        }
+        });
 
         return new RequirementsExtractionResult(
                 new ArrayList<>(skills),
@@ -96,11 +84,25 @@ public class RequirementsExtractor {
         return extractAll(text).getSkills();
     }
 
-    private void matchDictionary(String normalized, List<String> dictionary, Set<String> target) {
-        for (String item : dictionary) {
-            if (normalized.contains(item)) {
-                target.add(item);
+    private KeywordAutomaton compile(SkillTaxonomy taxonomy) {
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+        for (String category : List.of(SKILLS, TOOLS, DOMAINS, METHODOLOGIES)) {
+            for (String keyword : dictionaries.getOrDefault(category, List.of())) {
+                // Every spelling of a dictionary entry is matched and reported under its canonical taxonomy id.
+                String canonical = taxonomy.canonicalize(keyword.trim().toLowerCase(Locale.ROOT));
+                builder.add(category, keyword, canonical);
+                builder.add(category, canonical, canonical);
+                taxonomy.aliasesOf(canonical).forEach(alias -> builder.add(category, alias, canonical));
             }
         }
+        return builder.build();
+    }
+
+    private Map<String, List<String>> loadDictionaries(Resource resource, ObjectMapper objectMapper) {
+        try (InputStream input = resource.getInputStream()) {
+            return objectMapper.readValue(input, new TypeReference<Map<String, List<String>>>() { });
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to load requirements dictionary from " + resource.getDescription(), ex);
+        }
     }
 }
@@ -6,10 +6,14 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_posting_raw")
+@Table(name = "job_posting_raw", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_posting_raw_source_external_id", columnNames = {"source", "external_id"}),
+        @UniqueConstraint(name = "uk_job_posting_raw_url", columnNames = {"url"})
+})
 public class JobPostingRaw {
 
     @Id
@@ -26,8 +30,13 @@ public class JobPostingRaw {
     @Column(columnDefinition = "TEXT")
     private String rawContent;
 
+    @Column(length = 64)
+    private String contentHash;
+
     private LocalDateTime fetchedAt;
 
+    private LocalDateTime lastSeenAt;
+
     @Column(nullable = false)
     private boolean normalized = false;
 
@@ -73,6 +82,14 @@ public class JobPostingRaw {
         this.rawContent = rawContent;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public LocalDateTime getFetchedAt() {
         return fetchedAt;
     }
@@ -81,6 +98,14 @@ public class JobPostingRaw {
         this.fetchedAt = fetchedAt;
     }
 
+    public LocalDateTime getLastSeenAt() {
+        return lastSeenAt;
+    }
+
+    public void setLastSeenAt(LocalDateTime lastSeenAt) {
+        this.lastSeenAt = lastSeenAt;
+    }
+
     public boolean isNormalized() {
         return normalized;
     }
@@ -34,10 +34,28 @@ public class EltExecution {
 
     private Integer extractedCount;
 
+    private Integer loadedCount;
+
     private Integer normalizedCount;
 
     private Integer generatedCount;
 
+    private Long extractDurationMs;
+
+    private Long loadDurationMs;
+
+    private Long normalizeDurationMs;
+
+    private Long matchDurationMs;
+
+    private Double extractRowsPerSecond;
+
+    private Double loadRowsPerSecond;
+
+    private Double normalizeRowsPerSecond;
+
+    private Double matchRowsPerSecond;
+
     @Column(columnDefinition = "TEXT")
     private String message;
 
@@ -113,6 +131,78 @@ public class EltExecution {
         this.generatedCount = generatedCount;
     }
 
+    public Integer getLoadedCount() {
+        return loadedCount;
+    }
+
+    public void setLoadedCount(Integer loadedCount) {
+        this.loadedCount = loadedCount;
+    }
+
+    public Long getExtractDurationMs() {
+        return extractDurationMs;
+    }
+
+    public void setExtractDurationMs(Long extractDurationMs) {
+        this.extractDurationMs = extractDurationMs;
+    }
+
+    public Long getLoadDurationMs() {
+        return loadDurationMs;
+    }
+
+    public void setLoadDurationMs(Long loadDurationMs) {
+        this.loadDurationMs = loadDurationMs;
+    }
+
+    public Long getNormalizeDurationMs() {
+        return normalizeDurationMs;
+    }
+
+    public void setNormalizeDurationMs(Long normalizeDurationMs) {
+        this.normalizeDurationMs = normalizeDurationMs;
+    }
+
+    public Long getMatchDurationMs() {
+        return matchDurationMs;
+    }
+
+    public void setMatchDurationMs(Long matchDurationMs) {
+        this.matchDurationMs = matchDurationMs;
+    }
+
+    public Double getExtractRowsPerSecond() {
+        return extractRowsPerSecond;
+    }
+
+    public void setExtractRowsPerSecond(Double extractRowsPerSecond) {
+        this.extractRowsPerSecond = extractRowsPerSecond;
+    }
+
+    public Double getLoadRowsPerSecond() {
+        return loadRowsPerSecond;
+    }
+
+    public void setLoadRowsPerSecond(Double loadRowsPerSecond) {
+        this.loadRowsPerSecond = loadRowsPerSecond;
+    }
+
+    public Double getNormalizeRowsPerSecond() {
+        return normalizeRowsPerSecond;
+    }
+
+    public void setNormalizeRowsPerSecond(Double normalizeRowsPerSecond) {
+        this.normalizeRowsPerSecond = normalizeRowsPerSecond;
+    }
+
+    public Double getMatchRowsPerSecond() {
+        return matchRowsPerSecond;
+    }
+
+    public void setMatchRowsPerSecond(Double matchRowsPerSecond) {
+        this.matchRowsPerSecond = matchRowsPerSecond;
+    }
+
     public String getMessage() {
         return message;
     }
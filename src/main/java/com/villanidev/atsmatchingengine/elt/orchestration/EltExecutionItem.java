@@ -38,6 +38,10 @@ public class EltExecutionItem {
 
     private Integer itemCount;
 
+    private Long durationMs;
+
+    private Double rowsPerSecond;
+
     @Column(columnDefinition = "TEXT")
     private String message;
 
@@ -97,6 +101,22 @@ public class EltExecutionItem {
         this.itemCount = itemCount;
     }
 
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public Double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(Double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
     public String getMessage() {
         return message;
     }
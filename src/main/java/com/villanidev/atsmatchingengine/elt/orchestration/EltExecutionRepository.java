@@ -4,6 +4,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface EltExecutionRepository extends JpaRepository<EltExecution, Long> {
 
@@ -17,4 +21,33 @@ public interface EltExecutionRepository extends JpaRepository<EltExecution, Long
 			EltExecutionStatus status,
 			LocalDateTime from,
 			LocalDateTime to);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE EltExecution e SET e.extractDurationMs = :durationMs, e.extractRowsPerSecond = :rate WHERE e.id = :id")
+	int updateExtractStage(@Param("id") Long id, @Param("durationMs") long durationMs, @Param("rate") Double rate);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE EltExecution e SET e.loadedCount = :items, e.loadDurationMs = :durationMs, "
+			+ "e.loadRowsPerSecond = :rate WHERE e.id = :id")
+	int updateLoadStage(@Param("id") Long id,
+						@Param("items") int items,
+						@Param("durationMs") long durationMs,
+						@Param("rate") Double rate);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE EltExecution e SET e.normalizeDurationMs = :durationMs, e.normalizeRowsPerSecond = :rate "
+			+ "WHERE e.id = :id")
+	int updateNormalizeStage(@Param("id") Long id, @Param("durationMs") long durationMs, @Param("rate") Double rate);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE EltExecution e SET e.generatedCount = :items, e.matchDurationMs = :durationMs, "
+			+ "e.matchRowsPerSecond = :rate WHERE e.id = :id")
+	int updateMatchStage(@Param("id") Long id,
+						 @Param("items") int items,
+						 @Param("durationMs") long durationMs,
+						 @Param("rate") Double rate);
 }
@@ -1,10 +1,13 @@
 package com.villanidev.atsmatchingengine.elt.orchestration;
 
+import com.villanidev.atsmatchingengine.elt.EltStage;
+import com.villanidev.atsmatchingengine.elt.EltStageListener;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import org.springframework.stereotype.Service;
 
 @Service
-public class EltExecutionService {
+public class EltExecutionService implements EltStageListener {
 
     private final EltExecutionRepository executionRepository;
     private final EltExecutionItemRepository itemRepository;
@@ -39,6 +42,11 @@ public class EltExecutionService {
         item.setItemCount(itemCount);
         item.setMessage(message);
         item.setFinishedAt(LocalDateTime.now());
+        if (item.getStartedAt() != null) {
+            Duration duration = Duration.between(item.getStartedAt(), item.getFinishedAt());
+            item.setDurationMs(duration.toMillis());
+            item.setRowsPerSecond(rowsPerSecond(itemCount != null ? itemCount : 0, duration));
+        }
         itemRepository.save(item);
     }
 
@@ -61,4 +69,40 @@ public class EltExecutionService {
         }
         executionRepository.save(execution);
     }
+
+    // Writes only this stage's columns; the in-memory copy is updated too so later saves of the entity keep them.
+    @Override
+    public void onStageCompleted(EltExecution execution, EltStage stage, int items, Duration duration) {
+        long durationMs = duration.toMillis();
+        Double rate = rowsPerSecond(items, duration);
+        switch (stage) {
+            case EXTRACT -> {
+                execution.setExtractDurationMs(durationMs);
+                execution.setExtractRowsPerSecond(rate);
+                executionRepository.updateExtractStage(execution.getId(), durationMs, rate);
+            }
+            case LOAD -> {
+                execution.setLoadedCount(items);
+                execution.setLoadDurationMs(durationMs);
+                execution.setLoadRowsPerSecond(rate);
+                executionRepository.updateLoadStage(execution.getId(), items, durationMs, rate);
+            }
+            case NORMALIZE -> {
+                execution.setNormalizeDurationMs(durationMs);
+                execution.setNormalizeRowsPerSecond(rate);
+                executionRepository.updateNormalizeStage(execution.getId(), durationMs, rate);
+            }
+            case MATCH -> {
+                execution.setGeneratedCount(items);
+                execution.setMatchDurationMs(durationMs);
+                execution.setMatchRowsPerSecond(rate);
+                executionRepository.updateMatchStage(execution.getId(), items, durationMs, rate);
+            }
+        }
+    }
+
+    private static Double rowsPerSecond(int rows, Duration duration) {
+        long nanos = duration.toNanos();
+        return nanos > 0 ? rows * 1_000_000_000.0 / nanos : null;
+    }
 }
@@ -1,7 +1,9 @@
 package com.villanidev.atsmatchingengine.elt.repository;
 
 import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +18,22 @@ public interface JobPostingNormalizedRepository extends JpaRepository<JobPosting
 			+ "LIMIT :limit", nativeQuery = true)
 	List<JobPostingNormalized> searchFullText(@Param("query") String query, @Param("limit") int limit);
 
+	@Query("SELECT j FROM JobPostingNormalized j WHERE j.normalizedAt IS NOT NULL "
+			+ "ORDER BY j.normalizedAt ASC, j.id ASC")
+	List<JobPostingNormalized> findInMatchOrder(Pageable pageable);
+
+	@Query("SELECT j FROM JobPostingNormalized j "
+			+ "WHERE j.normalizedAt > :normalizedAt OR (j.normalizedAt = :normalizedAt AND j.id > :jobId) "
+			+ "ORDER BY j.normalizedAt ASC, j.id ASC")
+	List<JobPostingNormalized> findInMatchOrderAfter(
+			@Param("normalizedAt") LocalDateTime normalizedAt,
+			@Param("jobId") Long jobId,
+			Pageable pageable);
+
+	Optional<JobPostingNormalized> findFirstByRawIdOrderByIdDesc(Long rawId);
+
+	List<JobPostingNormalized> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
 	Page<JobPostingNormalized> findBySourceIgnoreCase(String source, Pageable pageable);
 
 	Page<JobPostingNormalized> findByLocationContainingIgnoreCase(String location, Pageable pageable);
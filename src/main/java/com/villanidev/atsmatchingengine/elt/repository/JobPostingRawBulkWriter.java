@@ -0,0 +1,330 @@
+package com.villanidev.atsmatchingengine.elt.repository;
+
+import com.villanidev.atsmatchingengine.elt.RawContentHasher;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingRaw;
+import com.villanidev.atsmatchingengine.shared.DatabaseDialect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JobPostingRawBulkWriter {
+
+    private static final String COLUMNS = "source, external_id, url, raw_content, content_hash, fetched_at, last_seen_at";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] ROW_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+    // raw_content is only read for rows stored before hashing existed, so their hash can be computed from it.
+    private static final String EXISTING = "SELECT id, source, external_id, url, content_hash, "
+            + "CASE WHEN content_hash IS NULL THEN raw_content END AS legacy_content FROM job_posting_raw ";
+    // url is left as first stored: it is only a dedup key, and rewriting it could collide with another row's url.
+    private static final String CHANGED_UPDATE = "UPDATE job_posting_raw SET raw_content = ?, content_hash = ?, "
+            + "fetched_at = ?, last_seen_at = ?, normalized = FALSE WHERE id = ?";
+    private static final String HASH_BACKFILL = "UPDATE job_posting_raw SET content_hash = ?, last_seen_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final RawContentHasher contentHasher;
+    private final int batchSize;
+    private final Timer insertTimer;
+    private final Timer lookupTimer;
+    private final Timer updateTimer;
+
+    public JobPostingRawBulkWriter(
+            JdbcTemplate jdbcTemplate,
+            DatabaseDialect databaseDialect,
+            RawContentHasher contentHasher,
+            MeterRegistry meterRegistry,
+            @Value("${elt.load.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+        this.contentHasher = contentHasher;
+        this.batchSize = Math.max(batchSize, 1);
+        this.insertTimer = meterRegistry.timer("elt.load.upsert", "statement", "insert");
+        this.lookupTimer = meterRegistry.timer("elt.load.upsert", "statement", "lookup");
+        this.updateTimer = meterRegistry.timer("elt.load.upsert", "statement", "update");
+    }
+
+    // Per batch: two lookups, one insert for new postings, one touch for unchanged ones and one JDBC batch for
+    // postings whose content hash moved. Rows colliding with uk_job_posting_raw_source_external_id or
+    // uk_job_posting_raw_url between lookup and insert are skipped by the database. A url already stored for a
+    // posting with a different source key is a conflict: the item is skipped rather than merged into that row.
+    public LoadResult load(List<JobPostingRaw> items) {
+        List<JobPostingRaw> distinct = distinct(items);
+        LoadResult result = new LoadResult();
+        for (int from = 0; from < distinct.size(); from += batchSize) {
+            loadBatch(distinct.subList(from, Math.min(from + batchSize, distinct.size())), result);
+        }
+        return result;
+    }
+
+    private void loadBatch(List<JobPostingRaw> batch, LoadResult result) {
+        LocalDateTime seenAt = LocalDateTime.now();
+        Map<String, Existing> byKey = findBySourceKey(batch);
+        Map<String, Existing> byUrl = findByUrl(batch, byKey);
+
+        List<JobPostingRaw> inserts = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        List<Object[]> changed = new ArrayList<>();
+        List<Object[]> backfilled = new ArrayList<>();
+        for (JobPostingRaw item : batch) {
+            Existing existing = byKey.get(sourceKey(item));
+            if (existing == null) {
+                existing = byUrl.get(blankToNull(item.getUrl()));
+                if (existing != null && !samePosting(existing, item)) {
+                    result.conflicts++;
+                    continue;
+                }
+            }
+            if (existing == null) {
+                inserts.add(item);
+            } else if (existing.contentHash == null
+                    && Objects.equals(contentHasher.hash(existing.legacyContent), item.getContentHash())) {
+                // Stored before hashing existed but still the same content: record its hash without a re-normalization.
+                backfilled.add(new Object[] {item.getContentHash(), Timestamp.valueOf(seenAt), existing.id});
+            } else if (Objects.equals(existing.contentHash, item.getContentHash())) {
+                unchanged.add(existing.id);
+            } else {
+                changed.add(new Object[] {
+                        item.getRawContent(), item.getContentHash(), Timestamp.valueOf(fetchedAt(item, seenAt)),
+                        Timestamp.valueOf(seenAt), existing.id});
+            }
+        }
+
+        result.inserted += insert(inserts, seenAt);
+        result.unchanged += touch(unchanged, seenAt) + backfilled.size();
+        result.changed += changed.size();
+        if (!changed.isEmpty()) {
+            timed(updateTimer, () -> jdbcTemplate.batchUpdate(CHANGED_UPDATE, changed));
+        }
+        if (!backfilled.isEmpty()) {
+            timed(updateTimer, () -> jdbcTemplate.batchUpdate(HASH_BACKFILL, backfilled));
+        }
+    }
+
+    private Map<String, Existing> findBySourceKey(List<JobPostingRaw> batch) {
+        Map<String, List<String>> externalIdsBySource = new LinkedHashMap<>();
+        for (JobPostingRaw item : batch) {
+            String externalId = blankToNull(item.getExternalId());
+            if (externalId != null) {
+                externalIdsBySource.computeIfAbsent(item.getSource(), ignored -> new ArrayList<>()).add(externalId);
+            }
+        }
+        Map<String, Existing> byKey = new HashMap<>();
+        externalIdsBySource.forEach((source, externalIds) -> {
+            List<Object> args = new ArrayList<>(externalIds.size() + 1);
+            args.add(source);
+            args.addAll(externalIds);
+            for (Existing existing : query(EXISTING + "WHERE source = ? AND external_id IN ("
+                    + placeholders(externalIds.size()) + ")", args)) {
+                byKey.put(existing.source + '\u0000' + existing.externalId, existing);
+            }
+        });
+        return byKey;
+    }
+
+    private Map<String, Existing> findByUrl(List<JobPostingRaw> batch, Map<String, Existing> byKey) {
+        List<Object> urls = new ArrayList<>();
+        for (JobPostingRaw item : batch) {
+            String url = blankToNull(item.getUrl());
+            if (url != null && !byKey.containsKey(sourceKey(item))) {
+                urls.add(url);
+            }
+        }
+        if (urls.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Existing> byUrl = new HashMap<>();
+        for (Existing existing : query(EXISTING + "WHERE url IN (" + placeholders(urls.size()) + ")", urls)) {
+            byUrl.put(existing.url, existing);
+        }
+        return byUrl;
+    }
+
+    private List<Existing> query(String sql, List<Object> args) {
+        return timed(lookupTimer, () -> jdbcTemplate.query(sql, (rs, rowNum) -> new Existing(
+                rs.getLong("id"),
+                rs.getString("source"),
+                rs.getString("external_id"),
+                rs.getString("url"),
+                rs.getString("content_hash"),
+                rs.getString("legacy_content")), args.toArray()));
+    }
+
+    // A row found only by url is the same posting when it has no source key of its own or the keys agree.
+    private boolean samePosting(Existing existing, JobPostingRaw item) {
+        return existing.externalId == null
+                || (Objects.equals(existing.source, item.getSource())
+                && Objects.equals(existing.externalId, blankToNull(item.getExternalId())));
+    }
+
+    private int insert(List<JobPostingRaw> items, LocalDateTime seenAt) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        String sql = databaseDialect.isPostgres() ? postgresInsert(items.size()) : h2Merge(items.size());
+        Object[] args = new Object[items.size() * ROW_TYPES.length];
+        int[] types = new int[args.length];
+        int i = 0;
+        for (JobPostingRaw item : items) {
+            args[i] = item.getSource();
+            args[i + 1] = blankToNull(item.getExternalId());
+            args[i + 2] = blankToNull(item.getUrl());
+            args[i + 3] = item.getRawContent();
+            args[i + 4] = item.getContentHash();
+            args[i + 5] = Timestamp.valueOf(fetchedAt(item, seenAt));
+            args[i + 6] = Timestamp.valueOf(seenAt);
+            System.arraycopy(ROW_TYPES, 0, types, i, ROW_TYPES.length);
+            i += ROW_TYPES.length;
+        }
+        return timed(insertTimer, () -> jdbcTemplate.update(sql, args, types));
+    }
+
+    private int touch(List<Long> ids, LocalDateTime seenAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(seenAt));
+        args.addAll(ids);
+        return timed(updateTimer, () -> jdbcTemplate.update(
+                "UPDATE job_posting_raw SET last_seen_at = ? WHERE id IN (" + placeholders(ids.size()) + ")",
+                args.toArray()));
+    }
+
+    private String postgresInsert(int rows) {
+        return "INSERT INTO job_posting_raw (" + COLUMNS + ", normalized) VALUES "
+                + rows(rows, "(?, ?, ?, ?, ?, ?, ?, FALSE)")
+                + " ON CONFLICT DO NOTHING";
+    }
+
+    // An OR across both keys in ON defeats H2's indexes; matching on url and probing the source key separately keeps
+    // each row to two index lookups.
+    private String h2Merge(int rows) {
+        return "MERGE INTO job_posting_raw t USING (VALUES " + rows(rows, ROW) + ") AS s(" + COLUMNS + ") "
+                + "ON t.url = s.url "
+                + "WHEN NOT MATCHED AND NOT EXISTS (SELECT 1 FROM job_posting_raw k "
+                + "WHERE k.source = s.source AND k.external_id = s.external_id) "
+                + "THEN INSERT (" + COLUMNS + ", normalized) "
+                + "VALUES (s.source, s.external_id, s.url, s.raw_content, s.content_hash, s.fetched_at, s.last_seen_at, "
+                + "FALSE)";
+    }
+
+    private String rows(int rows, String row) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < rows; i++) {
+            joiner.add(row);
+        }
+        return joiner.toString();
+    }
+
+    private String placeholders(int count) {
+        return rows(count, "?");
+    }
+
+    private <T> T timed(Timer timer, Supplier<T> statement) {
+        long started = System.nanoTime();
+        try {
+            return statement.get();
+        } finally {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // One statement may not insert the same key twice (MERGE would violate the constraint), so keep first sightings.
+    private List<JobPostingRaw> distinct(List<JobPostingRaw> items) {
+        List<JobPostingRaw> distinct = new ArrayList<>(items.size());
+        Set<String> sourceKeys = new HashSet<>();
+        Set<String> urls = new HashSet<>();
+        for (JobPostingRaw item : items) {
+            if (item == null || item.getSource() == null) {
+                continue;
+            }
+            String sourceKey = sourceKey(item);
+            String url = blankToNull(item.getUrl());
+            if ((sourceKey != null && sourceKeys.contains(sourceKey)) || (url != null && urls.contains(url))) {
+                continue;
+            }
+            if (sourceKey != null) {
+                sourceKeys.add(sourceKey);
+            }
+            if (url != null) {
+                urls.add(url);
+            }
+            distinct.add(item);
+        }
+        return distinct;
+    }
+
+    private String sourceKey(JobPostingRaw item) {
+        String externalId = blankToNull(item.getExternalId());
+        return externalId != null ? item.getSource() + '\u0000' + externalId : null;
+    }
+
+    private LocalDateTime fetchedAt(JobPostingRaw item, LocalDateTime fallback) {
+        return item.getFetchedAt() != null ? item.getFetchedAt() : fallback;
+    }
+
+    private String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value : null;
+    }
+
+    private static class Existing {
+        private final long id;
+        private final String source;
+        private final String externalId;
+        private final String url;
+        private final String contentHash;
+        private final String legacyContent;
+
+        private Existing(long id, String source, String externalId, String url, String contentHash,
+                         String legacyContent) {
+            this.id = id;
+            this.source = source;
+            this.externalId = externalId;
+            this.url = url;
+            this.contentHash = contentHash;
+            this.legacyContent = legacyContent;
+        }
+    }
+
+    public static class LoadResult {
+        private int inserted;
+        private int changed;
+        private int unchanged;
+        private int conflicts;
+
+        public int getInserted() {
+            return inserted;
+        }
+
+        public int getChanged() {
+            return changed;
+        }
+
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        public int getConflicts() {
+            return conflicts;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.villanidev.atsmatchingengine.elt.scraping;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.villanidev.atsmatchingengine.elt.model.JobPostingRaw;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -17,6 +18,7 @@ import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,9 +29,15 @@ public class AshbyPortalScraper implements JobPortalScraper {
 
     private final ObjectMapper objectMapper;
     private final HttpClient httpClient;
+    private final ScrapeMetrics metrics;
+    private final String apiBaseUrl;
 
-    public AshbyPortalScraper(ObjectMapper objectMapper) {
+    public AshbyPortalScraper(ObjectMapper objectMapper,
+            @Value("${elt.scraping.ashby.api-base-url:https://jobs.ashbyhq.com}") String apiBaseUrl,
+            MeterRegistry meterRegistry) {
         this.objectMapper = objectMapper;
+        this.metrics = new ScrapeMetrics(meterRegistry, getPortalId());
+        this.apiBaseUrl = PortalUrls.stripTrailingSlash(apiBaseUrl);
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(15))
                 .build();
@@ -40,6 +48,12 @@ public class AshbyPortalScraper implements JobPortalScraper {
         return "ashby";
     }
 
+    @Override
+    public void onRetry(Exception ex, int attempt, int maxRetries) {
+        metrics.retried();
+        JobPortalScraper.super.onRetry(ex, attempt, maxRetries);
+    }
+
     @Override
     public List<JobPostingRaw> scrape(PortalConfig config) {
         String listingUrl = config.getListingUrl();
@@ -48,7 +62,7 @@ public class AshbyPortalScraper implements JobPortalScraper {
             logger.info("Ashby scraper: missing organization slug. listingUrl={}", listingUrl);
             return Collections.emptyList();
         }
-        String apiUrl = "https://jobs.ashbyhq.com/api/non-user-portal/jobs?organizationSlug="
+        String apiUrl = apiBaseUrl + "/api/non-user-portal/jobs?organizationSlug="
                 + URLEncoder.encode(orgSlug, StandardCharsets.UTF_8);
         String userAgent = config.getUserAgent() != null && !config.getUserAgent().isBlank()
                 ? config.getUserAgent()
@@ -61,7 +75,7 @@ public class AshbyPortalScraper implements JobPortalScraper {
                         .header("User-Agent", userAgent)
                         .GET()
                         .build();
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> response = metrics.send(httpClient, request);
                 if (response.statusCode() >= 200 && response.statusCode() < 300) {
                     return parseJobs(response.body(), orgSlug);
                 }
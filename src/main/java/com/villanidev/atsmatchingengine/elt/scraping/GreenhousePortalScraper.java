@@ -3,6 +3,7 @@ package com.villanidev.atsmatchingengine.elt.scraping;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.villanidev.atsmatchingengine.elt.model.JobPostingRaw;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -15,6 +16,7 @@ import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -25,9 +27,15 @@ public class GreenhousePortalScraper implements JobPortalScraper {
 
     private final ObjectMapper objectMapper;
     private final HttpClient httpClient;
+    private final ScrapeMetrics metrics;
+    private final String apiBaseUrl;
 
-    public GreenhousePortalScraper(ObjectMapper objectMapper) {
+    public GreenhousePortalScraper(ObjectMapper objectMapper,
+            @Value("${elt.scraping.greenhouse.api-base-url:https://boards-api.greenhouse.io}") String apiBaseUrl,
+            MeterRegistry meterRegistry) {
         this.objectMapper = objectMapper;
+        this.metrics = new ScrapeMetrics(meterRegistry, getPortalId());
+        this.apiBaseUrl = PortalUrls.stripTrailingSlash(apiBaseUrl);
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(15))
                 .build();
@@ -38,6 +46,12 @@ public class GreenhousePortalScraper implements JobPortalScraper {
         return "greenhouse";
     }
 
+    @Override
+    public void onRetry(Exception ex, int attempt, int maxRetries) {
+        metrics.retried();
+        JobPortalScraper.super.onRetry(ex, attempt, maxRetries);
+    }
+
     @Override
     public List<JobPostingRaw> scrape(PortalConfig config) {
         String companySlug = extractCompanySlug(config.getListingUrl());
@@ -45,7 +59,7 @@ public class GreenhousePortalScraper implements JobPortalScraper {
             logger.info("Greenhouse scraper: missing company slug. listingUrl={}", config.getListingUrl());
             return Collections.emptyList();
         }
-        String jobsUrl = "https://boards-api.greenhouse.io/v1/boards/" + companySlug + "/jobs";
+        String jobsUrl = apiBaseUrl + "/v1/boards/" + companySlug + "/jobs";
         String userAgent = config.getUserAgent() != null && !config.getUserAgent().isBlank()
                 ? config.getUserAgent()
                 : DEFAULT_USER_AGENT;
@@ -57,7 +71,7 @@ public class GreenhousePortalScraper implements JobPortalScraper {
                         .header("User-Agent", userAgent)
                         .GET()
                         .build();
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> response = metrics.send(httpClient, request);
                 if (response.statusCode() >= 200 && response.statusCode() < 300) {
                     return parseJobs(response.body(), companySlug);
                 }
@@ -0,0 +1,12 @@
+package com.villanidev.atsmatchingengine.elt.scraping;
+
+final class PortalUrls {
+
+    private PortalUrls() {
+    }
+
+    static String stripTrailingSlash(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
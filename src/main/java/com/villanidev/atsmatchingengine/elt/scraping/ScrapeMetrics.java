@@ -0,0 +1,38 @@
+package com.villanidev.atsmatchingengine.elt.scraping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+class ScrapeMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final String portalId;
+    private final Counter retries;
+
+    ScrapeMetrics(MeterRegistry meterRegistry, String portalId) {
+        this.meterRegistry = meterRegistry;
+        this.portalId = portalId;
+        this.retries = Counter.builder("elt.scrape.retries").tag("portal", portalId).register(meterRegistry);
+    }
+
+    HttpResponse<String> send(HttpClient httpClient, HttpRequest request) throws IOException, InterruptedException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            outcome = (response.statusCode() / 100) + "xx";
+            return response;
+        } finally {
+            sample.stop(meterRegistry.timer("elt.scrape.http", "portal", portalId, "outcome", outcome));
+        }
+    }
+
+    void retried() {
+        retries.increment();
+    }
+}
@@ -1,6 +1,6 @@
 package com.villanidev.atsmatchingengine.elt.search;
 
-import javax.sql.DataSource;
+import com.villanidev.atsmatchingengine.shared.DatabaseDialect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
@@ -14,16 +14,16 @@ public class PostgresSearchVectorInitializer implements ApplicationRunner {
     private static final Logger logger = LoggerFactory.getLogger(PostgresSearchVectorInitializer.class);
 
     private final JdbcTemplate jdbcTemplate;
-    private final DataSource dataSource;
+    private final DatabaseDialect databaseDialect;
 
-    public PostgresSearchVectorInitializer(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+    public PostgresSearchVectorInitializer(JdbcTemplate jdbcTemplate, DatabaseDialect databaseDialect) {
         this.jdbcTemplate = jdbcTemplate;
-        this.dataSource = dataSource;
+        this.databaseDialect = databaseDialect;
     }
 
     @Override
     public void run(ApplicationArguments args) {
-        if (!isPostgres()) {
+        if (!databaseDialect.isPostgres()) {
             return;
         }
         try {
@@ -62,13 +62,4 @@ public class PostgresSearchVectorInitializer implements ApplicationRunner {
             logger.info("Failed to initialize PostgreSQL search vector. message={}", ex.getMessage());
         }
     }
-
-    private boolean isPostgres() {
-        try {
-            String product = dataSource.getConnection().getMetaData().getDatabaseProductName();
-            return product != null && product.toLowerCase().contains("postgres");
-        } catch (Exception ex) {
-            return false;
-        }
-    }
 }
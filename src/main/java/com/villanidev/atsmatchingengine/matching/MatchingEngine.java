@@ -4,12 +4,22 @@ import com.villanidev.atsmatchingengine.domain.CvGenerated;
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
 import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
 import com.villanidev.atsmatchingengine.matching.scoring.MatchingScoringService;
+import com.villanidev.atsmatchingengine.matching.scoring.ScoringContext;
 import com.villanidev.atsmatchingengine.matching.sections.CvSectionsBuilder;
 import com.villanidev.atsmatchingengine.rendering.OutputRenderer;
+import com.villanidev.atsmatchingengine.templates.TemplateRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Service
 public class MatchingEngine {
@@ -17,23 +27,106 @@ public class MatchingEngine {
         private final MatchingScoringService scoringService;
         private final CvSectionsBuilder sectionsBuilder;
         private final OutputRenderer outputRenderer;
-
-        public MatchingEngine() {
-                this(new MatchingScoringService(), new CvSectionsBuilder(), new OutputRenderer());
+        private final Executor sectionExecutor;
+
+        @Autowired
+        public MatchingEngine(TemplateRegistry templateRegistry,
+                                                  @Qualifier("eltTaskExecutor") Executor sectionExecutor,
+                                                  MeterRegistry meterRegistry) {
+                this(new MatchingScoringService(meterRegistry), new CvSectionsBuilder(), new OutputRenderer(templateRegistry, meterRegistry),
+                                sectionExecutor);
         }
 
         public MatchingEngine(MatchingScoringService scoringService,
                                                   CvSectionsBuilder sectionsBuilder,
-                                                  OutputRenderer outputRenderer) {
+                                                  OutputRenderer outputRenderer,
+                                                  Executor sectionExecutor) {
                 this.scoringService = scoringService;
                 this.sectionsBuilder = sectionsBuilder;
                 this.outputRenderer = outputRenderer;
+                this.sectionExecutor = sectionExecutor;
         }
 
         public CvGenerated generateCv(CvMaster cvMaster, Job job, Options options) {
+                return generateCv(cvMaster, job, options, null);
+        }
+
+        public CvGenerated generateCv(CvMaster cvMaster, Job job, Options options, Double precomputedTextRelevance) {
+                return generateCv(MatchProfile.of(cvMaster), job, options, precomputedTextRelevance);
+        }
+
+        public CvGenerated generateCv(MatchProfile profile, Job job, Options options, Double precomputedTextRelevance) {
+                CvGenerated cvGenerated = buildSections(profile, job, options, precomputedTextRelevance);
+                renderOutput(cvGenerated, options);
+                return cvGenerated;
+        }
+
+        public CvGenerated buildSections(MatchProfile profile, Job job, Options options, Double precomputedTextRelevance) {
+                return buildSections(profile, job, options, precomputedTextRelevance, false);
+        }
+
+        public CvGenerated buildSections(MatchProfile profile,
+                                         Job job,
+                                         Options options,
+                                         Double precomputedTextRelevance,
+                                         boolean concurrent) {
+                return buildSections(newContext(profile, job), options, precomputedTextRelevance, concurrent);
+        }
+
+        public ScoringContext newContext(MatchProfile profile, Job job) {
+                return scoringService.newContext(profile, job);
+        }
+
+        public ScoringContext newContext(MatchProfile profile, JobProfile jobProfile) {
+                return scoringService.newContext(profile, jobProfile);
+        }
+
+        // Concurrent mode is meant for single interactive requests; batch callers already parallelize across CVs.
+        public CvGenerated buildSections(ScoringContext context,
+                                         Options options,
+                                         Double precomputedTextRelevance,
+                                         boolean concurrent) {
+                if (!concurrent || sectionExecutor == null) {
+                        return buildSectionsSequentially(context, options, precomputedTextRelevance);
+                }
+                CvMaster cvMaster = context.getProfile().getCvMaster();
+                // Meta and the experience section both read these; filling them first keeps the forks from racing to compute them.
+                context.getExperienceRelevances();
+
+                CompletableFuture<CvGenerated.Meta> meta = CompletableFuture.supplyAsync(
+                                () -> scoringService.buildMeta(context, options, precomputedTextRelevance), sectionExecutor);
+                CompletableFuture<CvGenerated.SkillsSection> skills = CompletableFuture.supplyAsync(
+                                () -> sectionsBuilder.buildSkillsSection(context), sectionExecutor);
+                CompletableFuture<List<CvGenerated.ExperienceSection>> experience = CompletableFuture.supplyAsync(
+                                () -> sectionsBuilder.buildExperienceSection(context, options), sectionExecutor);
+
+                CvGenerated cvGenerated = new CvGenerated();
+                cvGenerated.setHeader(sectionsBuilder.buildHeader(cvMaster));
+                cvGenerated.setSummary(cvMaster.getSummary() != null ? cvMaster.getSummary() : List.of());
+                cvGenerated.setEducationSection(sectionsBuilder.buildEducationSection(cvMaster));
+                cvGenerated.setLanguagesSection(sectionsBuilder.buildLanguagesSection(cvMaster));
+
+                try {
+                        CompletableFuture.allOf(meta, skills, experience).join();
+                } catch (CompletionException ex) {
+                        if (ex.getCause() instanceof RuntimeException cause) {
+                                throw cause;
+                        }
+                        throw ex;
+                }
+                cvGenerated.setMeta(meta.join());
+                cvGenerated.setSkillsSection(skills.join());
+                cvGenerated.setExperienceSection(experience.join());
+                return cvGenerated;
+        }
+
+        private CvGenerated buildSectionsSequentially(ScoringContext context,
+                                                      Options options,
+                                                      Double precomputedTextRelevance) {
+                CvMaster cvMaster = context.getProfile().getCvMaster();
                 CvGenerated cvGenerated = new CvGenerated();
 
-                CvGenerated.Meta meta = scoringService.buildMeta(cvMaster, job, options);
+                CvGenerated.Meta meta = scoringService.buildMeta(context, options, precomputedTextRelevance);
                 cvGenerated.setMeta(meta);
 
                 CvGenerated.Header header = sectionsBuilder.buildHeader(cvMaster);
@@ -41,14 +134,12 @@ public class MatchingEngine {
 
                 cvGenerated.setSummary(cvMaster.getSummary() != null ? cvMaster.getSummary() : List.of());
 
-                CvGenerated.SkillsSection skillsSection = sectionsBuilder.buildSkillsSection(cvMaster, job);
+                CvGenerated.SkillsSection skillsSection = sectionsBuilder.buildSkillsSection(context);
                 cvGenerated.setSkillsSection(skillsSection);
 
                 List<CvGenerated.ExperienceSection> experienceSection = sectionsBuilder.buildExperienceSection(
-                                cvMaster,
-                                job,
-                        options,
-                                scoringService.getExperienceScorer()
+                                context,
+                                options
                 );
                 cvGenerated.setExperienceSection(experienceSection);
 
@@ -58,9 +149,10 @@ public class MatchingEngine {
                 List<CvGenerated.LanguageSection> languagesSection = sectionsBuilder.buildLanguagesSection(cvMaster);
                 cvGenerated.setLanguagesSection(languagesSection);
 
-                CvGenerated.Output output = outputRenderer.buildOutput(cvGenerated, options);
-                cvGenerated.setOutput(output);
-
                 return cvGenerated;
         }
+
+        public void renderOutput(CvGenerated cvGenerated, Options options) {
+                cvGenerated.setOutput(outputRenderer.buildOutput(cvGenerated, options));
+        }
 }
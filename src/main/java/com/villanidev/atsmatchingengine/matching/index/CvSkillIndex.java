@@ -0,0 +1,222 @@
+package com.villanidev.atsmatchingengine.matching.index;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterIndex;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.shared.CandidateSkillCollector;
+import com.villanidev.atsmatchingengine.shared.SkillNormalizer;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomy;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CvSkillIndex implements CvMasterIndex {
+
+    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
+    private final CandidateSkillCollector skillCollector = new CandidateSkillCollector();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, BitSet> skillPostings = new HashMap<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final Map<Integer, Set<String>> skillsByOrdinal = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] idsByOrdinal = new long[64];
+
+    @Override
+    public void index(Long cvMasterId, CvMaster cvMaster) {
+        if (cvMasterId == null || cvMaster == null) {
+            return;
+        }
+        Set<String> skills = withAncestors(normalizeAll(skillCollector.collectSkills(cvMaster)));
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.get(cvMasterId);
+            if (ordinal != null) {
+                clearPostings(ordinal);
+            } else {
+                ordinal = live.nextClearBit(0);
+                ordinalsById.put(cvMasterId, ordinal);
+                if (ordinal >= idsByOrdinal.length) {
+                    idsByOrdinal = Arrays.copyOf(idsByOrdinal, Math.max(ordinal + 1, idsByOrdinal.length * 2));
+                }
+                idsByOrdinal[ordinal] = cvMasterId;
+                live.set(ordinal);
+            }
+            for (String skill : skills) {
+                skillPostings.computeIfAbsent(skill, key -> new BitSet()).set(ordinal);
+            }
+            skillsByOrdinal.put(ordinal, skills);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long cvMasterId) {
+        if (cvMasterId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.remove(cvMasterId);
+            if (ordinal == null) {
+                return;
+            }
+            clearPostings(ordinal);
+            skillsByOrdinal.remove(ordinal);
+            live.clear(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] findCandidates(Job job, int minMustHaveMatches) {
+        return findCandidates(mustHaveSkills(job), minMustHaveMatches);
+    }
+
+    public long[] findCandidates(Collection<String> requiredSkills, int minMatches) {
+        Set<String> required = normalizeAll(requiredSkills);
+        lock.readLock().lock();
+        try {
+            if (required.isEmpty() || minMatches <= 0) {
+                return toIds(live);
+            }
+            int threshold = Math.min(minMatches, required.size());
+            if (threshold == 1) {
+                BitSet union = new BitSet();
+                for (String skill : required) {
+                    BitSet posting = skillPostings.get(skill);
+                    if (posting != null) {
+                        union.or(posting);
+                    }
+                }
+                return toIds(union);
+            }
+            int[] counts = new int[live.length()];
+            BitSet matched = new BitSet();
+            for (String skill : required) {
+                BitSet posting = skillPostings.get(skill);
+                if (posting == null) {
+                    continue;
+                }
+                for (int ordinal = posting.nextSetBit(0); ordinal >= 0; ordinal = posting.nextSetBit(ordinal + 1)) {
+                    if (++counts[ordinal] == threshold) {
+                        matched.set(ordinal);
+                    }
+                }
+            }
+            return toIds(matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean coversMustHaveSkills(Long cvMasterId, Job job, int minMustHaveMatches) {
+        Set<String> required = normalizeAll(mustHaveSkills(job));
+        if (required.isEmpty() || minMustHaveMatches <= 0) {
+            return true;
+        }
+        int threshold = Math.min(minMustHaveMatches, required.size());
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalsById.get(cvMasterId);
+            if (ordinal == null) {
+                return true;
+            }
+            int matches = 0;
+            for (String skill : required) {
+                BitSet posting = skillPostings.get(skill);
+                if (posting != null && posting.get(ordinal) && ++matches >= threshold) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(Long cvMasterId) {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.containsKey(cvMasterId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clearPostings(int ordinal) {
+        Set<String> previous = skillsByOrdinal.get(ordinal);
+        if (previous == null) {
+            return;
+        }
+        for (String skill : previous) {
+            BitSet posting = skillPostings.get(skill);
+            if (posting == null) {
+                continue;
+            }
+            posting.clear(ordinal);
+            if (posting.isEmpty()) {
+                skillPostings.remove(skill);
+            }
+        }
+    }
+
+    private long[] toIds(BitSet ordinals) {
+        long[] ids = new long[ordinals.cardinality()];
+        int i = 0;
+        for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+            ids[i++] = idsByOrdinal[ordinal];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private List<String> mustHaveSkills(Job job) {
+        if (job == null || job.getRequirements() == null || job.getRequirements().getMustHaveSkills() == null) {
+            return List.of();
+        }
+        return job.getRequirements().getMustHaveSkills();
+    }
+
+    private Set<String> withAncestors(Set<String> skills) {
+        SkillTaxonomy taxonomy = SkillTaxonomy.current();
+        Set<String> expanded = new LinkedHashSet<>(skills);
+        for (String skill : skills) {
+            expanded.addAll(taxonomy.ancestorsOf(skill));
+        }
+        return expanded;
+    }
+
+    private Set<String> normalizeAll(Collection<String> values) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (values == null) {
+            return normalized;
+        }
+        for (String value : values) {
+            String key = skillNormalizer.normalizeSkill(value);
+            if (!key.isEmpty()) {
+                normalized.add(key);
+            }
+        }
+        return normalized;
+    }
+}
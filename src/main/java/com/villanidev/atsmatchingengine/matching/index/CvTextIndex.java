@@ -0,0 +1,349 @@
+package com.villanidev.atsmatchingengine.matching.index;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterIndex;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.domain.TextRelevanceStrategy;
+import com.villanidev.atsmatchingengine.matching.scoring.TextRelevanceScorer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.Bits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CvTextIndex implements CvMasterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvTextIndex.class);
+
+    private static final String ID_FIELD = "cv_master_id";
+    private static final String ID_VALUE_FIELD = "cv_master_id_value";
+
+    private final TextRelevanceScorer textRelevanceScorer = new TextRelevanceScorer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile StrategySearchers strategySearchers;
+
+    public CvTextIndex() {
+        try {
+            this.directory = new ByteBuffersDirectory();
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(TextRelevanceScorer.analyzer()));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open CV text index", ex);
+        }
+    }
+
+    @Override
+    public void index(Long cvMasterId, CvMaster cvMaster) {
+        if (cvMasterId == null || cvMaster == null) {
+            return;
+        }
+        try {
+            writer.updateDocument(idTerm(cvMasterId), document(cvMasterId, cvMaster));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            logger.info("Failed to index CvMaster id={} message={}", cvMasterId, ex.getMessage());
+        }
+    }
+
+    // Every refresh flushes a segment, so a bulk load writes all documents first and reopens the reader once.
+    @Override
+    public void indexAll(Map<Long, CvMaster> cvMasters) {
+        cvMasters.forEach((cvMasterId, cvMaster) -> {
+            if (cvMasterId == null || cvMaster == null) {
+                return;
+            }
+            try {
+                writer.updateDocument(idTerm(cvMasterId), document(cvMasterId, cvMaster));
+            } catch (IOException ex) {
+                logger.info("Failed to index CvMaster id={} message={}", cvMasterId, ex.getMessage());
+            }
+        });
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            logger.info("Failed to refresh CV text index message={}", ex.getMessage());
+        }
+    }
+
+    // Candidate text is built from the raw CV, not from taxonomy-resolved skills.
+    @Override
+    public boolean dependsOnTaxonomy() {
+        return false;
+    }
+
+    @Override
+    public void remove(Long cvMasterId) {
+        if (cvMasterId == null) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(idTerm(cvMasterId));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            logger.info("Failed to remove CvMaster id={} from text index message={}", cvMasterId, ex.getMessage());
+        }
+    }
+
+    public Optional<Double> score(Long cvMasterId, Job job, TextRelevanceStrategy strategy) {
+        if (strategy == TextRelevanceStrategy.NONE) {
+            return cvMasterId == null ? Optional.empty() : Optional.of(0.0);
+        }
+        return score(cvMasterId, textRelevanceScorer.buildJobQuery(job), strategy);
+    }
+
+    public Optional<Double> score(Long cvMasterId, Query jobQuery, TextRelevanceStrategy strategy) {
+        if (cvMasterId == null) {
+            return Optional.empty();
+        }
+        if (strategy == TextRelevanceStrategy.NONE) {
+            return Optional.of(0.0);
+        }
+        try (CandidateScorer scorer = scorer(cvMasterId)) {
+            return scorer.score(jobQuery, strategy);
+        }
+    }
+
+    // Pins one reader and resolves the CV's document once, so scoring it against many jobs skips the id lookup.
+    public CandidateScorer scorer(Long cvMasterId) {
+        if (cvMasterId == null) {
+            return new CandidateScorer(cvMasterId, null, null, null, null, -1);
+        }
+        try {
+            IndexSearcher acquired = searcherManager.acquire();
+            try {
+                StrategySearchers searchers = searchersFor(acquired.getIndexReader());
+                Term idTerm = idTerm(cvMasterId);
+                for (LeafReaderContext leaf : acquired.getIndexReader().leaves()) {
+                    int doc = liveDoc(leaf, idTerm);
+                    if (doc != DocIdSetIterator.NO_MORE_DOCS) {
+                        return new CandidateScorer(cvMasterId, searcherManager, acquired, searchers, leaf, doc);
+                    }
+                }
+                return new CandidateScorer(cvMasterId, searcherManager, acquired, searchers, null, -1);
+            } catch (IOException | RuntimeException ex) {
+                searcherManager.release(acquired);
+                throw ex;
+            }
+        } catch (IOException ex) {
+            logger.info("CV text index lookup failed cvMasterId={} message={}", cvMasterId, ex.getMessage());
+            return new CandidateScorer(cvMasterId, null, null, null, null, -1);
+        }
+    }
+
+    public Map<Long, Double> scoreAll(Job job, TextRelevanceStrategy strategy) {
+        if (strategy == TextRelevanceStrategy.NONE) {
+            return new HashMap<>();
+        }
+        return scoreAll(textRelevanceScorer.buildJobQuery(job), strategy);
+    }
+
+    public Map<Long, Double> scoreAll(Query jobQuery, TextRelevanceStrategy strategy) {
+        Map<Long, Double> scores = new HashMap<>();
+        if (strategy == TextRelevanceStrategy.NONE || jobQuery == null) {
+            return scores;
+        }
+        try {
+            IndexSearcher acquired = searcherManager.acquire();
+            try {
+                searchersFor(acquired.getIndexReader()).get(strategy).search(jobQuery, new ScoreCollector(scores));
+            } finally {
+                searcherManager.release(acquired);
+            }
+        } catch (IOException ex) {
+            logger.info("CV text index query failed message={}", ex.getMessage());
+        }
+        return scores;
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // The managed searcher is shared across threads, so each strategy gets its own searcher view of the
+    // current reader; the views are rebuilt only when a refresh opens a new reader.
+    private StrategySearchers searchersFor(IndexReader reader) {
+        StrategySearchers current = strategySearchers;
+        if (current != null && current.reader == reader) {
+            return current;
+        }
+        StrategySearchers created = new StrategySearchers(reader);
+        strategySearchers = created;
+        return created;
+    }
+
+    private static int liveDoc(LeafReaderContext leaf, Term idTerm) throws IOException {
+        PostingsEnum postings = leaf.reader().postings(idTerm, PostingsEnum.NONE);
+        if (postings == null) {
+            return DocIdSetIterator.NO_MORE_DOCS;
+        }
+        Bits liveDocs = leaf.reader().getLiveDocs();
+        for (int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc()) {
+            if (liveDocs == null || liveDocs.get(doc)) {
+                return doc;
+            }
+        }
+        return DocIdSetIterator.NO_MORE_DOCS;
+    }
+
+    private Document document(Long cvMasterId, CvMaster cvMaster) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, String.valueOf(cvMasterId), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID_VALUE_FIELD, cvMasterId));
+        document.add(new TextField(TextRelevanceScorer.CONTENT_FIELD,
+                textRelevanceScorer.buildCandidateText(cvMaster), Field.Store.NO));
+        return document;
+    }
+
+    private Term idTerm(Long cvMasterId) {
+        return new Term(ID_FIELD, String.valueOf(cvMasterId));
+    }
+
+    public static class CandidateScorer implements AutoCloseable {
+
+        private final Long cvMasterId;
+        private final SearcherManager searcherManager;
+        private final IndexSearcher acquired;
+        private final StrategySearchers searchers;
+        private final LeafReaderContext leaf;
+        private final int doc;
+
+        private CandidateScorer(Long cvMasterId,
+                                SearcherManager searcherManager,
+                                IndexSearcher acquired,
+                                StrategySearchers searchers,
+                                LeafReaderContext leaf,
+                                int doc) {
+            this.cvMasterId = cvMasterId;
+            this.searcherManager = searcherManager;
+            this.acquired = acquired;
+            this.searchers = searchers;
+            this.leaf = leaf;
+            this.doc = doc;
+        }
+
+        // Empty when the CV is not in the index.
+        public Optional<Double> score(Query jobQuery, TextRelevanceStrategy strategy) {
+            if (leaf == null) {
+                return Optional.empty();
+            }
+            if (strategy == TextRelevanceStrategy.NONE || jobQuery == null) {
+                return Optional.of(0.0);
+            }
+            try {
+                IndexSearcher searcher = searchers.get(strategy);
+                Weight weight = searcher.createWeight(searcher.rewrite(jobQuery), ScoreMode.COMPLETE, 1f);
+                Scorer scorer = weight.scorer(leaf);
+                if (scorer == null || scorer.iterator().advance(doc) != doc) {
+                    return Optional.of(0.0);
+                }
+                return Optional.of(TextRelevanceScorer.normalizeScore(scorer.score()));
+            } catch (IOException ex) {
+                logger.info("CV text index lookup failed cvMasterId={} message={}", cvMasterId, ex.getMessage());
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (acquired == null) {
+                return;
+            }
+            try {
+                searcherManager.release(acquired);
+            } catch (IOException ex) {
+                logger.info("Failed to release CV text index searcher message={}", ex.getMessage());
+            }
+        }
+    }
+
+    private static class StrategySearchers {
+
+        private final IndexReader reader;
+        private final Map<TextRelevanceStrategy, IndexSearcher> searchers = new EnumMap<>(TextRelevanceStrategy.class);
+
+        private StrategySearchers(IndexReader reader) {
+            this.reader = reader;
+            for (TextRelevanceStrategy strategy : TextRelevanceStrategy.values()) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(TextRelevanceScorer.similarityFor(strategy));
+                searchers.put(strategy, searcher);
+            }
+        }
+
+        private IndexSearcher get(TextRelevanceStrategy strategy) {
+            return searchers.get(strategy != null ? strategy : TextRelevanceStrategy.BM25);
+        }
+    }
+
+    private static class ScoreCollector extends SimpleCollector {
+
+        private final Map<Long, Double> scores;
+        private NumericDocValues ids;
+        private Scorable scorer;
+
+        private ScoreCollector(Map<Long, Double> scores) {
+            this.scores = scores;
+        }
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            ids = context.reader().getNumericDocValues(ID_VALUE_FIELD);
+        }
+
+        @Override
+        public void setScorer(Scorable scorer) {
+            this.scorer = scorer;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (ids != null && ids.advanceExact(doc)) {
+                scores.put(ids.longValue(), TextRelevanceScorer.normalizeScore(scorer.score()));
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterIndex;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyReloadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class CvProfileStore implements CvMasterIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CvProfileStore.class);
+
+    // Unlike MatchProfileCache (an LRU for single matches), whole-corpus ranking wants every CV resident,
+    // so the store admits CVs until maxEntries and never evicts; rankers load CVs beyond the cap from storage.
+    private final ConcurrentHashMap<Long, MatchProfile> profiles = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private volatile boolean full;
+
+    public CvProfileStore(@Value("${matching.profile-store.max-entries:20000}") int maxEntries) {
+        this.maxEntries = Math.max(maxEntries, 1);
+    }
+
+    @Override
+    public void index(Long cvMasterId, CvMaster cvMaster) {
+        if (cvMasterId == null || cvMaster == null) {
+            return;
+        }
+        if (!hasRoom(cvMasterId)) {
+            return;
+        }
+        try {
+            profiles.put(cvMasterId, MatchProfile.of(cvMaster));
+        } catch (RuntimeException ex) {
+            profiles.remove(cvMasterId);
+            logger.info("Failed to build match profile cvMasterId={} message={}", cvMasterId, ex.getMessage());
+        }
+    }
+
+    // Profiles built on demand by a ranker take a slot freed since the last rebuild.
+    public void offer(Long cvMasterId, MatchProfile profile) {
+        if (cvMasterId != null && profile != null && hasRoom(cvMasterId)) {
+            profiles.put(cvMasterId, profile);
+        }
+    }
+
+    @Override
+    public void remove(Long cvMasterId) {
+        if (cvMasterId != null) {
+            profiles.remove(cvMasterId);
+            full = false;
+        }
+    }
+
+    // Runs before CvMasterIndexInitializer rebuilds the indexes, which re-admits every CV under the new taxonomy.
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTaxonomyReloaded(SkillTaxonomyReloadedEvent event) {
+        profiles.clear();
+        full = false;
+    }
+
+    public Optional<MatchProfile> get(Long cvMasterId) {
+        return Optional.ofNullable(profiles.get(cvMasterId));
+    }
+
+    public long[] ids() {
+        return profiles.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    private boolean hasRoom(Long cvMasterId) {
+        if (profiles.containsKey(cvMasterId) || profiles.size() < maxEntries) {
+            return true;
+        }
+        if (!full) {
+            full = true;
+            logger.info("CV profile store reached maxEntries={}; further CVs are loaded per ranking", maxEntries);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.matching.scoring.TextRelevanceScorer;
+import org.apache.lucene.search.Query;
+
+public final class JobProfile {
+
+    private static final TextRelevanceScorer TEXT_RELEVANCE_SCORER = new TextRelevanceScorer();
+
+    private final Job job;
+    private final Query query;
+    private volatile RequirementIds requirementIds;
+
+    private JobProfile(Job job) {
+        this.job = job;
+        this.requirementIds = RequirementIds.of(job);
+        this.query = TEXT_RELEVANCE_SCORER.buildJobQuery(job);
+    }
+
+    public static JobProfile of(Job job) {
+        return new JobProfile(job);
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    public RequirementIds getRequirementIds() {
+        RequirementIds ids = requirementIds;
+        if (!ids.isCurrent()) {
+            ids = RequirementIds.of(job);
+            requirementIds = ids;
+        }
+        return ids;
+    }
+}
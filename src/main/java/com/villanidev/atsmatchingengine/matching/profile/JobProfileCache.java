@@ -0,0 +1,40 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.matching.JobPostingNormalizedMapper;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyReloadedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JobProfileCache {
+
+    private final JobPostingNormalizedMapper jobMapper;
+    private final VersionedLruCache<JobProfile> cache;
+
+    public JobProfileCache(JobPostingNormalizedMapper jobMapper,
+                           @Value("${matching.job-profile-cache.max-entries:2000}") int maxEntries) {
+        this.jobMapper = jobMapper;
+        this.cache = new VersionedLruCache<>(maxEntries);
+    }
+
+    public JobProfile get(JobPostingNormalized normalized) {
+        return cache.get(normalized.getId(), normalized.getNormalizedAt(),
+                () -> JobProfile.of(jobMapper.toJob(normalized)));
+    }
+
+    public void evict(Long jobPostingId) {
+        cache.evict(jobPostingId);
+    }
+
+    @EventListener
+    public void onTaxonomyReloaded(SkillTaxonomyReloadedEvent event) {
+        // Cached profiles hold skill ids resolved against the previous taxonomy.
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
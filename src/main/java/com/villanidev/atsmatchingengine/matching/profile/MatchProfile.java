@@ -0,0 +1,186 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.matching.scoring.SoftSkillScorer;
+import com.villanidev.atsmatchingengine.matching.scoring.TextRelevanceScorer;
+import com.villanidev.atsmatchingengine.shared.CandidateSkillCollector;
+import com.villanidev.atsmatchingengine.shared.DateParser;
+import com.villanidev.atsmatchingengine.shared.SkillDictionary;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public final class MatchProfile {
+
+    private static final CandidateSkillCollector SKILL_COLLECTOR = new CandidateSkillCollector();
+    private static final SoftSkillScorer SOFT_SKILL_SCORER = new SoftSkillScorer();
+    private static final TextRelevanceScorer TEXT_RELEVANCE_SCORER = new TextRelevanceScorer();
+    private static final DateParser DATE_PARSER = new DateParser();
+
+    private final CvMaster cvMaster;
+    private final Set<String> skills;
+    private final BitSet skillIds;
+    private final Map<Integer, String> skillNamesById;
+    private final BitSet domainIds;
+    private final boolean hasDomains;
+    private final List<ExperienceProfile> experiences;
+    private final YearMonth earliestStart;
+    private final String softSkillTextLower;
+    private final String candidateText;
+    private final List<String> analyzedTerms;
+
+    private MatchProfile(CvMaster cvMaster) {
+        SkillDictionary skillDictionary = SkillDictionary.getInstance();
+        this.cvMaster = cvMaster;
+        this.skills = Collections.unmodifiableSet(SKILL_COLLECTOR.collectSkills(cvMaster));
+        this.skillIds = skillDictionary.expandedIdSetOf(skills);
+        this.skillNamesById = Collections.unmodifiableMap(skillDictionary.firstNamesById(skills));
+        this.domainIds = skillDictionary.idSetOf(cvMaster.getDomains());
+        this.hasDomains = cvMaster.getDomains() != null && !cvMaster.getDomains().isEmpty();
+
+        List<ExperienceProfile> experienceProfiles = new ArrayList<>();
+        YearMonth earliest = null;
+        if (cvMaster.getExperiences() != null) {
+            for (CvMaster.Experience experience : cvMaster.getExperiences()) {
+                ExperienceProfile profile = ExperienceProfile.of(experience);
+                experienceProfiles.add(profile);
+                if (profile.start != null && (earliest == null || profile.start.isBefore(earliest))) {
+                    earliest = profile.start;
+                }
+            }
+        }
+        this.experiences = Collections.unmodifiableList(experienceProfiles);
+        this.earliestStart = earliest;
+
+        this.softSkillTextLower = SOFT_SKILL_SCORER.buildCandidateText(cvMaster).toLowerCase();
+        this.candidateText = TEXT_RELEVANCE_SCORER.buildCandidateText(cvMaster);
+        this.analyzedTerms = Collections.unmodifiableList(TEXT_RELEVANCE_SCORER.analyze(candidateText));
+    }
+
+    public static MatchProfile of(CvMaster cvMaster) {
+        return new MatchProfile(cvMaster);
+    }
+
+    public CvMaster getCvMaster() {
+        return cvMaster;
+    }
+
+    public Set<String> getSkills() {
+        return skills;
+    }
+
+    public Map<Integer, String> getSkillNamesById() {
+        return skillNamesById;
+    }
+
+    public int countSkillMatches(int[] requiredIds) {
+        return SkillDictionary.countMatches(skillIds, requiredIds);
+    }
+
+    public boolean hasDomains() {
+        return hasDomains;
+    }
+
+    public int countDomainMatches(int[] requiredIds) {
+        return SkillDictionary.countMatches(domainIds, requiredIds);
+    }
+
+    public List<ExperienceProfile> getExperiences() {
+        return experiences;
+    }
+
+    public Optional<YearMonth> getEarliestStart() {
+        return Optional.ofNullable(earliestStart);
+    }
+
+    public String getSoftSkillTextLower() {
+        return softSkillTextLower;
+    }
+
+    public String getCandidateText() {
+        return candidateText;
+    }
+
+    public List<String> getAnalyzedTerms() {
+        return analyzedTerms;
+    }
+
+    public static final class ExperienceProfile {
+
+        private final CvMaster.Experience experience;
+        private final BitSet skillIds;
+        private final BitSet domainIds;
+        private final Set<String> techStack;
+        private final YearMonth start;
+        private final YearMonth end;
+        private final boolean ongoing;
+
+        private ExperienceProfile(CvMaster.Experience experience) {
+            SkillDictionary skillDictionary = SkillDictionary.getInstance();
+            BitSet experienceSkillIds = new BitSet();
+            BitSet experienceDomainIds = new BitSet();
+            Set<String> experienceTechStack = new LinkedHashSet<>();
+            if (experience.getProjects() != null) {
+                for (CvMaster.Project project : experience.getProjects()) {
+                    experienceSkillIds.or(skillDictionary.expandedIdSetOf(project.getTechStack()));
+                    experienceDomainIds.or(skillDictionary.idSetOf(project.getDomains()));
+                    if (project.getTechStack() != null) {
+                        experienceTechStack.addAll(project.getTechStack());
+                    }
+                }
+            }
+            this.experience = experience;
+            this.skillIds = experienceSkillIds;
+            this.domainIds = experienceDomainIds;
+            this.techStack = Collections.unmodifiableSet(experienceTechStack);
+            this.start = experience.getStart() != null
+                    ? DATE_PARSER.parseYearMonth(experience.getStart()).orElse(null)
+                    : null;
+            this.ongoing = "present".equalsIgnoreCase(experience.getEnd());
+            this.end = DATE_PARSER.parseYearMonth(experience.getEnd()).orElse(null);
+        }
+
+        public static ExperienceProfile of(CvMaster.Experience experience) {
+            return new ExperienceProfile(experience);
+        }
+
+        public CvMaster.Experience getExperience() {
+            return experience;
+        }
+
+        public int countSkillMatches(int[] requiredIds) {
+            return SkillDictionary.countMatches(skillIds, requiredIds);
+        }
+
+        public boolean hasDomains() {
+            return !domainIds.isEmpty();
+        }
+
+        public int countDomainMatches(int[] requiredIds) {
+            return SkillDictionary.countMatches(domainIds, requiredIds);
+        }
+
+        public Set<String> getTechStack() {
+            return techStack;
+        }
+
+        public Optional<YearMonth> getStart() {
+            return Optional.ofNullable(start);
+        }
+
+        public Optional<YearMonth> getEnd() {
+            return Optional.ofNullable(end);
+        }
+
+        public boolean isOngoing() {
+            return ongoing;
+        }
+    }
+}
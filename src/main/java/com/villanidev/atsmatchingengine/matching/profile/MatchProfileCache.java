@@ -0,0 +1,45 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterIndex;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyReloadedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+@Component
+public class MatchProfileCache implements CvMasterIndex {
+
+    private final VersionedLruCache<MatchProfile> cache;
+
+    public MatchProfileCache(@Value("${matching.profile-cache.max-entries:500}") int maxEntries) {
+        this.cache = new VersionedLruCache<>(maxEntries);
+    }
+
+    public MatchProfile get(Long cvMasterId, LocalDateTime updatedAt, Supplier<CvMaster> loader) {
+        return cache.get(cvMasterId, updatedAt, () -> MatchProfile.of(loader.get()));
+    }
+
+    @Override
+    public void index(Long cvMasterId, CvMaster cvMaster) {
+        cache.evict(cvMasterId);
+    }
+
+    @Override
+    public void remove(Long cvMasterId) {
+        cache.evict(cvMasterId);
+    }
+
+    @EventListener
+    public void onTaxonomyReloaded(SkillTaxonomyReloadedEvent event) {
+        // Cached profiles hold skill ids resolved against the previous taxonomy.
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
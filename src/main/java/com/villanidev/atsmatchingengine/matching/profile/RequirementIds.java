@@ -0,0 +1,77 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.shared.SkillDictionary;
+
+public final class RequirementIds {
+
+    private static final int[] NONE = new int[0];
+
+    private final int[] mustHaveSkillIds;
+    private final int[] niceToHaveSkillIds;
+    private final int[] toolIds;
+    private final int[] domainIds;
+    private final int[] allSkillIds;
+    private final int dictionaryVersion;
+    private final boolean complete;
+
+    private RequirementIds(Job.Requirements requirements) {
+        SkillDictionary skillDictionary = SkillDictionary.getInstance();
+        this.dictionaryVersion = skillDictionary.version();
+        if (requirements == null) {
+            this.mustHaveSkillIds = NONE;
+            this.niceToHaveSkillIds = NONE;
+            this.toolIds = NONE;
+            this.domainIds = NONE;
+        } else {
+            this.mustHaveSkillIds = skillDictionary.idsOf(requirements.getMustHaveSkills());
+            this.niceToHaveSkillIds = skillDictionary.idsOf(requirements.getNiceToHaveSkills());
+            this.toolIds = skillDictionary.idsOf(requirements.getTools());
+            this.domainIds = skillDictionary.idsOf(requirements.getDomains());
+        }
+        int[] all = new int[mustHaveSkillIds.length + niceToHaveSkillIds.length + toolIds.length];
+        System.arraycopy(mustHaveSkillIds, 0, all, 0, mustHaveSkillIds.length);
+        System.arraycopy(niceToHaveSkillIds, 0, all, mustHaveSkillIds.length, niceToHaveSkillIds.length);
+        System.arraycopy(toolIds, 0, all, mustHaveSkillIds.length + niceToHaveSkillIds.length, toolIds.length);
+        this.allSkillIds = all;
+        this.complete = !containsUnknown(all) && !containsUnknown(domainIds);
+    }
+
+    public static RequirementIds of(Job job) {
+        return new RequirementIds(job != null ? job.getRequirements() : null);
+    }
+
+    // A requirement unknown at resolution time may have been interned since by a newly indexed CV.
+    public boolean isCurrent() {
+        return complete || dictionaryVersion == SkillDictionary.getInstance().version();
+    }
+
+    public int[] getMustHaveSkillIds() {
+        return mustHaveSkillIds;
+    }
+
+    public int[] getNiceToHaveSkillIds() {
+        return niceToHaveSkillIds;
+    }
+
+    public int[] getToolIds() {
+        return toolIds;
+    }
+
+    public int[] getDomainIds() {
+        return domainIds;
+    }
+
+    public int[] getAllSkillIds() {
+        return allSkillIds;
+    }
+
+    private static boolean containsUnknown(int[] ids) {
+        for (int id : ids) {
+            if (id == SkillDictionary.UNKNOWN) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+class VersionedLruCache<V> {
+
+    private final int maxEntries;
+    private final Map<Long, Entry<V>> entries;
+
+    VersionedLruCache(int maxEntries) {
+        this.maxEntries = Math.max(maxEntries, 1);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<V>> eldest) {
+                return size() > VersionedLruCache.this.maxEntries;
+            }
+        };
+    }
+
+    V get(Long id, Object version, Supplier<V> loader) {
+        synchronized (entries) {
+            Entry<V> cached = entries.get(id);
+            if (cached != null && Objects.equals(cached.version, version)) {
+                return cached.value;
+            }
+        }
+        // Built outside the lock; a concurrent build of the same version just replaces an equivalent value.
+        V value = loader.get();
+        synchronized (entries) {
+            entries.put(id, new Entry<>(version, value));
+        }
+        return value;
+    }
+
+    void evict(Long id) {
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final Object version;
+        private final V value;
+
+        private Entry(Object version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.villanidev.atsmatchingengine.matching.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class TopKHeap<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    // order ranks worse items first; the heap root is the weakest of the current top K.
+    public TopKHeap(int k, Comparator<? super T> order) {
+        this.k = Math.max(k, 0);
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(this.k, 1), order);
+    }
+
+    public boolean offer(T item) {
+        if (k == 0) {
+            return false;
+        }
+        if (heap.size() < k) {
+            heap.add(item);
+            return true;
+        }
+        if (order.compare(item, heap.peek()) <= 0) {
+            return false;
+        }
+        heap.poll();
+        heap.add(item);
+        return true;
+    }
+
+    public void merge(TopKHeap<T> other) {
+        for (T item : other.heap) {
+            offer(item);
+        }
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public List<T> toSortedList() {
+        List<T> items = new ArrayList<>(heap);
+        items.sort(order.reversed());
+        return items;
+    }
+}
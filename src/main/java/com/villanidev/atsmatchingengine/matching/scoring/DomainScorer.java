@@ -2,34 +2,32 @@ package com.villanidev.atsmatchingengine.matching.scoring;
 
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
-import com.villanidev.atsmatchingengine.shared.SkillNormalizer;
-
-import java.util.List;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.profile.RequirementIds;
 
 public class DomainScorer {
 
-    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
-
     public double computeGlobalDomainScore(CvMaster cvMaster, Job job) {
-        Job.Requirements requirements = job.getRequirements();
-        List<String> jobDomains = requirements.getDomains();
+        return computeGlobalDomainScore(MatchProfile.of(cvMaster), job);
+    }
 
-        if (jobDomains == null || jobDomains.isEmpty()) {
+    public double computeGlobalDomainScore(MatchProfile profile, Job job) {
+        return computeGlobalDomainScore(profile, RequirementIds.of(job));
+    }
+
+    public double computeGlobalDomainScore(MatchProfile profile, RequirementIds requirementIds) {
+        int[] jobDomainIds = requirementIds.getDomainIds();
+
+        if (jobDomainIds.length == 0) {
             return 0.5;
         }
 
-        List<String> candidateDomains = cvMaster.getDomains() != null ? cvMaster.getDomains() : List.of();
-
-        if (candidateDomains.isEmpty()) {
+        if (!profile.hasDomains()) {
             return 0.0;
         }
 
-        long matchedCount = jobDomains.stream()
-                .filter(jobDomain -> candidateDomains.stream()
-                        .anyMatch(candidateDomain -> skillNormalizer.normalizeSkill(candidateDomain)
-                                .equals(skillNormalizer.normalizeSkill(jobDomain))))
-                .count();
+        int matchedCount = profile.countDomainMatches(jobDomainIds);
 
-        return (double) matchedCount / jobDomains.size();
+        return (double) matchedCount / jobDomainIds.length;
     }
-}
\ No newline at end of file
+}
@@ -2,80 +2,65 @@ package com.villanidev.atsmatchingengine.matching.scoring;
 
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
-import com.villanidev.atsmatchingengine.shared.DateParser;
-import com.villanidev.atsmatchingengine.shared.SkillNormalizer;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.profile.RequirementIds;
 
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
-import java.util.*;
+import java.util.Optional;
 
 public class ExperienceScorer {
 
     private final SkillCoverageCalculator coverageCalculator;
-    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
-    private final DateParser dateParser = new DateParser();
 
     public ExperienceScorer(SkillCoverageCalculator coverageCalculator) {
         this.coverageCalculator = coverageCalculator;
     }
 
     public double computeExperienceRelevance(CvMaster.Experience experience, Job job) {
-        Set<String> experienceSkills = new HashSet<>();
-        if (experience.getProjects() != null) {
-            experience.getProjects().stream()
-                    .filter(proj -> proj.getTechStack() != null)
-                    .flatMap(proj -> proj.getTechStack().stream())
-                    .forEach(experienceSkills::add);
-        }
-
-        Job.Requirements requirements = job.getRequirements();
+        return computeExperienceRelevance(MatchProfile.ExperienceProfile.of(experience), job);
+    }
 
-        List<String> allJobSkills = new ArrayList<>();
-        if (requirements.getMustHaveSkills() != null) allJobSkills.addAll(requirements.getMustHaveSkills());
-        if (requirements.getNiceToHaveSkills() != null) allJobSkills.addAll(requirements.getNiceToHaveSkills());
-        if (requirements.getTools() != null) allJobSkills.addAll(requirements.getTools());
+    public double computeExperienceRelevance(MatchProfile.ExperienceProfile experience, Job job) {
+        return computeExperienceRelevance(experience, job, YearMonth.now());
+    }
 
-        double skillScore = coverageCalculator.computeCoverage(experienceSkills, allJobSkills);
+    public double computeExperienceRelevance(MatchProfile.ExperienceProfile experience, Job job, YearMonth now) {
+        return computeExperienceRelevance(experience, RequirementIds.of(job), now);
+    }
 
-        Set<String> experienceDomains = new HashSet<>();
-        if (experience.getProjects() != null) {
-            experience.getProjects().stream()
-                    .filter(proj -> proj.getDomains() != null)
-                    .flatMap(proj -> proj.getDomains().stream())
-                    .forEach(experienceDomains::add);
-        }
+    public double computeExperienceRelevance(MatchProfile.ExperienceProfile experience,
+                                             RequirementIds requirementIds,
+                                             YearMonth now) {
+        int[] jobSkillIds = requirementIds.getAllSkillIds();
+        double skillScore = coverageCalculator.computeCoverage(experience.countSkillMatches(jobSkillIds), jobSkillIds);
 
-        List<String> jobDomains = requirements.getDomains() != null ? requirements.getDomains() : List.of();
+        int[] jobDomainIds = requirementIds.getDomainIds();
         double domainScore;
-        if (jobDomains.isEmpty()) {
+        if (jobDomainIds.length == 0) {
             domainScore = 0.5;
-        } else if (experienceDomains.isEmpty()) {
+        } else if (!experience.hasDomains()) {
             domainScore = 0.0;
         } else {
-            long matchedDomains = jobDomains.stream()
-                    .filter(jobDomain -> experienceDomains.stream()
-                            .anyMatch(expDomain -> skillNormalizer.normalizeSkill(expDomain)
-                                    .equals(skillNormalizer.normalizeSkill(jobDomain))))
-                    .count();
-            domainScore = (double) matchedDomains / jobDomains.size();
+            int matchedDomains = experience.countDomainMatches(jobDomainIds);
+            domainScore = (double) matchedDomains / jobDomainIds.length;
         }
 
-        double recencyScore = computeRecencyScore(experience.getEnd());
+        double recencyScore = computeRecencyScore(experience, now);
 
         return 0.6 * skillScore + 0.2 * domainScore + 0.2 * recencyScore;
     }
 
-    private double computeRecencyScore(String endDate) {
-        if ("present".equalsIgnoreCase(endDate)) {
+    private double computeRecencyScore(MatchProfile.ExperienceProfile experience, YearMonth now) {
+        if (experience.isOngoing()) {
             return 1.0;
         }
 
-        Optional<YearMonth> endYearMonth = dateParser.parseYearMonth(endDate);
+        Optional<YearMonth> endYearMonth = experience.getEnd();
         if (endYearMonth.isEmpty()) {
             return 0.5;
         }
 
-        YearMonth now = YearMonth.now();
         long monthsAgo = endYearMonth.get().until(now, ChronoUnit.MONTHS);
         double yearsAgo = monthsAgo / 12.0;
 
@@ -87,4 +72,4 @@ public class ExperienceScorer {
             return 1.0 - (yearsAgo / 5.0) * 0.8;
         }
     }
-}
\ No newline at end of file
+}
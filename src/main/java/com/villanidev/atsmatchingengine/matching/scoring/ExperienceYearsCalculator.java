@@ -1,6 +1,7 @@
 package com.villanidev.atsmatchingengine.matching.scoring;
 
 import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
 import com.villanidev.atsmatchingengine.shared.DateParser;
 
 import java.time.YearMonth;
@@ -30,7 +31,22 @@ public class ExperienceYearsCalculator {
             return 0.0;
         }
 
-        YearMonth now = YearMonth.now();
-        return earliestStart.get().until(now, ChronoUnit.MONTHS) / 12.0;
+        return yearsSince(earliestStart.get());
+    }
+
+    public double calculateTotalYearsOfExperience(MatchProfile profile) {
+        return calculateTotalYearsOfExperience(profile, YearMonth.now());
+    }
+
+    public double calculateTotalYearsOfExperience(MatchProfile profile, YearMonth now) {
+        return profile.getEarliestStart().map(start -> yearsSince(start, now)).orElse(0.0);
+    }
+
+    private double yearsSince(YearMonth start) {
+        return yearsSince(start, YearMonth.now());
+    }
+
+    private double yearsSince(YearMonth start, YearMonth now) {
+        return start.until(now, ChronoUnit.MONTHS) / 12.0;
     }
 }
\ No newline at end of file
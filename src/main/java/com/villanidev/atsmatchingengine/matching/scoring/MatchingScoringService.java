@@ -4,44 +4,130 @@ import com.villanidev.atsmatchingengine.domain.CvGenerated;
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
 import com.villanidev.atsmatchingengine.domain.Options;
-import com.villanidev.atsmatchingengine.shared.CandidateSkillCollector;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.profile.RequirementIds;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 public class MatchingScoringService {
 
-    private final CandidateSkillCollector skillCollector = new CandidateSkillCollector();
+    // Every match records matching.score; only one in this many also records the per-scorer breakdown.
+    private static final int DEFAULT_SCORER_SAMPLE_RATE = 64;
+
     private final SkillCoverageCalculator coverageCalculator = new SkillCoverageCalculator();
     private final ExperienceScorer experienceScorer = new ExperienceScorer(coverageCalculator);
     private final ExperienceYearsCalculator experienceYearsCalculator = new ExperienceYearsCalculator();
     private final DomainScorer domainScorer = new DomainScorer();
     private final SoftSkillScorer softSkillScorer = new SoftSkillScorer();
     private final TextRelevanceScorer textRelevanceScorer = new TextRelevanceScorer();
+    private final int scorerSampleRate;
+    private final Timer matchTimer;
+    private final Timer skillsTimer;
+    private final Timer domainTimer;
+    private final Timer experienceYearsTimer;
+    private final Timer softSkillsTimer;
+    private final Timer textRelevanceTimer;
+    private final Timer experienceRelevanceTimer;
+
+    // Without a registry (tests, benchmarks) the timers are no-ops.
+    public MatchingScoringService() {
+        this(new CompositeMeterRegistry());
+    }
+
+    public MatchingScoringService(MeterRegistry meterRegistry) {
+        this(meterRegistry, DEFAULT_SCORER_SAMPLE_RATE);
+    }
+
+    public MatchingScoringService(MeterRegistry meterRegistry, int scorerSampleRate) {
+        this.scorerSampleRate = Math.max(scorerSampleRate, 1);
+        this.matchTimer = meterRegistry.timer("matching.score");
+        this.skillsTimer = scorerTimer(meterRegistry, "skills");
+        this.domainTimer = scorerTimer(meterRegistry, "domain");
+        this.experienceYearsTimer = scorerTimer(meterRegistry, "experience_years");
+        this.softSkillsTimer = scorerTimer(meterRegistry, "soft_skills");
+        this.textRelevanceTimer = scorerTimer(meterRegistry, "text_relevance");
+        this.experienceRelevanceTimer = scorerTimer(meterRegistry, "experience_relevance");
+    }
 
     public CvGenerated.Meta buildMeta(CvMaster cvMaster, Job job, Options options) {
+        return buildMeta(cvMaster, job, options, null);
+    }
+
+    public CvGenerated.Meta buildMeta(CvMaster cvMaster, Job job, Options options, Double precomputedTextRelevance) {
+        return buildMeta(MatchProfile.of(cvMaster), job, options, precomputedTextRelevance);
+    }
+
+    public CvGenerated.Meta buildMeta(MatchProfile profile, Job job, Options options, Double precomputedTextRelevance) {
+        return buildMeta(newContext(profile, job), options, precomputedTextRelevance);
+    }
+
+    public CvGenerated.Meta buildMeta(MatchProfile profile, JobProfile jobProfile, Options options, Double precomputedTextRelevance) {
+        return buildMeta(newContext(profile, jobProfile), options, precomputedTextRelevance);
+    }
+
+    public ScoringContext newContext(MatchProfile profile, Job job) {
+        return ScoringContext.of(profile, job, experienceScorer);
+    }
+
+    public ScoringContext newContext(MatchProfile profile, JobProfile jobProfile) {
+        return new ScoringContext(profile, jobProfile.getJob(), jobProfile.getRequirementIds(), experienceScorer, YearMonth.now());
+    }
+
+    public CvGenerated.Meta buildMeta(ScoringContext context, Options options, Double precomputedTextRelevance) {
+        MatchProfile profile = context.getProfile();
+        Job job = context.getJob();
         CvGenerated.Meta meta = new CvGenerated.Meta();
         meta.setJobId(job.getId());
         meta.setJobTitle(job.getTitle());
         meta.setGenerationTimestamp(LocalDate.now().toString());
 
-        double globalSkillScore = computeGlobalSkillScore(cvMaster, job);
-        double domainScore = domainScorer.computeGlobalDomainScore(cvMaster, job);
-        double experienceYearsScore = computeExperienceYearsScore(cvMaster, job);
-        double softSkillScore = softSkillScorer.computeSoftSkillScore(cvMaster, job);
-        double textRelevanceScore = textRelevanceScorer.computeTextRelevanceScore(
-            cvMaster,
-            job,
-            options != null ? options.getTextRelevanceStrategy() : null
-        );
-
-        double avgTopExperiences = cvMaster.getExperiences().stream()
-                .map(exp -> experienceScorer.computeExperienceRelevance(exp, job))
-                .sorted(Comparator.reverseOrder())
-                .limit(3)
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElse(0.0);
+        long started = System.nanoTime();
+        boolean sampled = scorerSampleRate == 1 || ThreadLocalRandom.current().nextInt(scorerSampleRate) == 0;
+        long lap = started;
+        double globalSkillScore = computeGlobalSkillScore(profile, context.getRequirementIds());
+        if (sampled) {
+            lap = recordSince(skillsTimer, lap);
+        }
+        double domainScore = domainScorer.computeGlobalDomainScore(profile, context.getRequirementIds());
+        if (sampled) {
+            lap = recordSince(domainTimer, lap);
+        }
+        double experienceYearsScore = computeExperienceYearsScore(profile, job, context.getNow());
+        if (sampled) {
+            lap = recordSince(experienceYearsTimer, lap);
+        }
+        double softSkillScore = softSkillScorer.computeSoftSkillScore(profile, job);
+        if (sampled) {
+            lap = recordSince(softSkillsTimer, lap);
+        }
+        double textRelevanceScore;
+        if (precomputedTextRelevance != null) {
+            textRelevanceScore = precomputedTextRelevance;
+        } else {
+            textRelevanceScore = textRelevanceScorer.computeTextRelevanceScore(
+                profile,
+                job,
+                options != null ? options.getTextRelevanceStrategy() : null
+            );
+            if (sampled) {
+                lap = recordSince(textRelevanceTimer, lap);
+            }
+        }
+
+        // Relevances already memoized on the context (e.g. by concurrent section building) cost nothing here.
+        boolean relevancesPending = !context.hasExperienceRelevances();
+        double avgTopExperiences = averageTop(context.getExperienceRelevances(), 3);
+        if (sampled && relevancesPending) {
+            recordSince(experienceRelevanceTimer, lap);
+        }
 
         double overallScore = 0.40 * globalSkillScore +
             0.20 * avgTopExperiences +
@@ -59,32 +145,49 @@ public class MatchingScoringService {
         matchingDetails.setTextRelevance(textRelevanceScore);
         meta.setMatchingDetails(matchingDetails);
 
+        matchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         return meta;
     }
 
-    private double computeGlobalSkillScore(CvMaster cvMaster, Job job) {
-        var candidateSkills = skillCollector.collectSkills(cvMaster);
-        Job.Requirements requirements = job.getRequirements();
+    private static Timer scorerTimer(MeterRegistry meterRegistry, String scorer) {
+        return Timer.builder("matching.scorer").tag("scorer", scorer).register(meterRegistry);
+    }
 
-        double mustHaveCoverage = coverageCalculator.computeCoverage(
-                candidateSkills,
-                requirements.getMustHaveSkills() != null ? requirements.getMustHaveSkills() : java.util.List.of()
-        );
+    private static long recordSince(Timer timer, long startedNanos) {
+        long now = System.nanoTime();
+        timer.record(now - startedNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
 
-        double niceToHaveCoverage = coverageCalculator.computeCoverage(
-                candidateSkills,
-                requirements.getNiceToHaveSkills() != null ? requirements.getNiceToHaveSkills() : java.util.List.of()
-        );
+    private double averageTop(double[] values, int limit) {
+        if (values.length == 0) {
+            return 0.0;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int count = Math.min(limit, sorted.length);
+        double sum = 0.0;
+        for (int i = sorted.length - count; i < sorted.length; i++) {
+            sum += sorted[i];
+        }
+        return sum / count;
+    }
 
-        double toolsCoverage = coverageCalculator.computeCoverage(
-                candidateSkills,
-                requirements.getTools() != null ? requirements.getTools() : java.util.List.of()
-        );
+    private double computeGlobalSkillScore(MatchProfile profile, RequirementIds requirementIds) {
+        double mustHaveCoverage = computeCoverage(profile, requirementIds.getMustHaveSkillIds());
+
+        double niceToHaveCoverage = computeCoverage(profile, requirementIds.getNiceToHaveSkillIds());
+
+        double toolsCoverage = computeCoverage(profile, requirementIds.getToolIds());
 
         return 0.6 * mustHaveCoverage + 0.25 * niceToHaveCoverage + 0.15 * toolsCoverage;
     }
 
-    private double computeExperienceYearsScore(CvMaster cvMaster, Job job) {
+    private double computeCoverage(MatchProfile profile, int[] requiredSkillIds) {
+        return coverageCalculator.computeCoverage(profile.countSkillMatches(requiredSkillIds), requiredSkillIds);
+    }
+
+    private double computeExperienceYearsScore(MatchProfile profile, Job job, YearMonth now) {
         Job.Requirements requirements = job.getRequirements();
         Integer requiredYears = requirements.getYearsOfExperience();
 
@@ -92,7 +195,7 @@ public class MatchingScoringService {
             return 1.0;
         }
 
-        double candidateYears = experienceYearsCalculator.calculateTotalYearsOfExperience(cvMaster);
+        double candidateYears = experienceYearsCalculator.calculateTotalYearsOfExperience(profile, now);
 
         if (candidateYears >= requiredYears) {
             return 1.0;
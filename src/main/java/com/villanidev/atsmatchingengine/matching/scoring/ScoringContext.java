@@ -0,0 +1,99 @@
+package com.villanidev.atsmatchingengine.matching.scoring;
+
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.profile.RequirementIds;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class ScoringContext {
+
+    private final MatchProfile profile;
+    private final Job job;
+    private final RequirementIds requirementIds;
+    private final ExperienceScorer experienceScorer;
+    private final YearMonth now;
+
+    // Lazily filled; a racing first read computes the same value twice, which is harmless.
+    private volatile double[] experienceRelevances;
+    private volatile List<String> matchedSkills;
+
+    ScoringContext(MatchProfile profile, Job job, RequirementIds requirementIds,
+                   ExperienceScorer experienceScorer, YearMonth now) {
+        this.profile = profile;
+        this.job = job;
+        this.requirementIds = requirementIds;
+        this.experienceScorer = experienceScorer;
+        this.now = now;
+    }
+
+    public static ScoringContext of(MatchProfile profile, Job job, ExperienceScorer experienceScorer) {
+        return new ScoringContext(profile, job, RequirementIds.of(job), experienceScorer, YearMonth.now());
+    }
+
+    public MatchProfile getProfile() {
+        return profile;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public RequirementIds getRequirementIds() {
+        return requirementIds;
+    }
+
+    public YearMonth getNow() {
+        return now;
+    }
+
+    boolean hasExperienceRelevances() {
+        return experienceRelevances != null;
+    }
+
+    // Index-aligned with profile.getExperiences().
+    public double[] getExperienceRelevances() {
+        double[] relevances = experienceRelevances;
+        if (relevances == null) {
+            relevances = new double[profile.getExperiences().size()];
+            for (int i = 0; i < relevances.length; i++) {
+                relevances[i] = experienceScorer.computeExperienceRelevance(profile.getExperiences().get(i), requirementIds, now);
+            }
+            experienceRelevances = relevances;
+        }
+        return relevances;
+    }
+
+    public List<String> getMatchedSkills() {
+        List<String> matched = matchedSkills;
+        if (matched == null) {
+            matched = matchedSkills(profile, requirementIds);
+            matchedSkills = matched;
+        }
+        return matched;
+    }
+
+    // Candidate skill names matching any job skill, in job requirement order.
+    public static List<String> matchedSkills(MatchProfile profile, Job job) {
+        return matchedSkills(profile, RequirementIds.of(job));
+    }
+
+    public static List<String> matchedSkills(MatchProfile profile, RequirementIds requirementIds) {
+        int[] jobSkillIds = requirementIds.getAllSkillIds();
+        Map<Integer, String> candidateSkillsById = profile.getSkillNamesById();
+        Set<String> names = new LinkedHashSet<>();
+        for (int requiredId : jobSkillIds) {
+            String candidate = candidateSkillsById.get(requiredId);
+            if (candidate != null) {
+                names.add(candidate);
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(names));
+    }
+}
@@ -1,23 +1,34 @@
 package com.villanidev.atsmatchingengine.matching.scoring;
 
-import com.villanidev.atsmatchingengine.shared.SkillNormalizer;
+import com.villanidev.atsmatchingengine.shared.SkillDictionary;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 
 public class SkillCoverageCalculator {
 
-    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
+    private final SkillDictionary skillDictionary = SkillDictionary.getInstance();
 
     public double computeCoverage(Set<String> candidateSkills, List<String> requiredSkills) {
         if (requiredSkills == null || requiredSkills.isEmpty()) {
             return 1.0;
         }
+        return computeCoverage(skillDictionary.expandedIdSetOf(candidateSkills), skillDictionary.idsOf(requiredSkills));
+    }
 
-        long matchedCount = requiredSkills.stream()
-                .filter(required -> skillNormalizer.skillMatches(candidateSkills, required))
-                .count();
+    public double computeCoverage(BitSet candidateSkillIds, int[] requiredSkillIds) {
+        if (requiredSkillIds == null || requiredSkillIds.length == 0) {
+            return 1.0;
+        }
+        return computeCoverage(SkillDictionary.countMatches(candidateSkillIds, requiredSkillIds), requiredSkillIds);
+    }
+
+    public double computeCoverage(int matchedCount, int[] requiredSkillIds) {
+        if (requiredSkillIds == null || requiredSkillIds.length == 0) {
+            return 1.0;
+        }
 
-        return (double) matchedCount / requiredSkills.size();
+        return (double) matchedCount / requiredSkillIds.length;
     }
-}
\ No newline at end of file
+}
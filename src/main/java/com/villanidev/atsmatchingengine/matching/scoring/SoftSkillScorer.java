@@ -2,18 +2,21 @@ package com.villanidev.atsmatchingengine.matching.scoring;
 
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
 
 import java.util.List;
 
 public class SoftSkillScorer {
 
     public double computeSoftSkillScore(CvMaster cvMaster, Job job) {
-        List<String> softSkills = job.getSoftSkills();
+        return computeSoftSkillScore(buildCandidateText(cvMaster).toLowerCase(), job);
+    }
 
-        if (softSkills == null || softSkills.isEmpty()) {
-            return 0.5;
-        }
+    public double computeSoftSkillScore(MatchProfile profile, Job job) {
+        return computeSoftSkillScore(profile.getSoftSkillTextLower(), job);
+    }
 
+    public String buildCandidateText(CvMaster cvMaster) {
         StringBuilder candidateText = new StringBuilder();
 
         if (cvMaster.getSummary() != null) {
@@ -34,7 +37,15 @@ public class SoftSkillScorer {
                     });
         }
 
-        String candidateTextLower = candidateText.toString().toLowerCase();
+        return candidateText.toString();
+    }
+
+    private double computeSoftSkillScore(String candidateTextLower, Job job) {
+        List<String> softSkills = job.getSoftSkills();
+
+        if (softSkills == null || softSkills.isEmpty()) {
+            return 0.5;
+        }
 
         long matchedCount = softSkills.stream()
                 .filter(skill -> candidateTextLower.contains(skill.toLowerCase()))
@@ -42,4 +53,4 @@ public class SoftSkillScorer {
 
         return (double) matchedCount / softSkills.size();
     }
-}
\ No newline at end of file
+}
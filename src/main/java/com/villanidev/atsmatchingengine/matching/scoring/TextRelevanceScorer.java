@@ -3,51 +3,73 @@ package com.villanidev.atsmatchingengine.matching.scoring;
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
 import com.villanidev.atsmatchingengine.domain.TextRelevanceStrategy;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.queryparser.classic.QueryParser;
-import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.similarities.BM25Similarity;
 import org.apache.lucene.search.similarities.ClassicSimilarity;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TextRelevanceScorer {
 
+    public static final String CONTENT_FIELD = "content";
+
+    private static final Analyzer ANALYZER = new StandardAnalyzer();
+
     public double computeTextRelevanceScore(CvMaster cvMaster, Job job, TextRelevanceStrategy strategy) {
         if (strategy == TextRelevanceStrategy.NONE) {
             return 0.0;
         }
+        return computeTextRelevanceScore(analyze(buildCandidateText(cvMaster)), job, strategy);
+    }
+
+    public double computeTextRelevanceScore(MatchProfile profile, Job job, TextRelevanceStrategy strategy) {
+        if (strategy == TextRelevanceStrategy.NONE) {
+            return 0.0;
+        }
+        return computeTextRelevanceScore(profile.getAnalyzedTerms(), job, strategy);
+    }
 
+    private double computeTextRelevanceScore(List<String> candidateTerms, Job job, TextRelevanceStrategy strategy) {
         TextRelevanceStrategy resolved = strategy != null ? strategy : TextRelevanceStrategy.BM25;
-        String candidateText = buildCandidateText(cvMaster);
-        String jobText = buildJobText(job);
+        Query query = buildJobQuery(job);
 
-        if (candidateText.isBlank() || jobText.isBlank()) {
+        if (candidateTerms.isEmpty() || query == null) {
             return 0.0;
         }
 
-        try (Analyzer analyzer = new StandardAnalyzer();
-             Directory directory = new ByteBuffersDirectory()) {
+        try (Directory directory = new ByteBuffersDirectory()) {
             Similarity similarity = similarityFor(resolved);
-            IndexWriterConfig config = new IndexWriterConfig(analyzer);
+            IndexWriterConfig config = new IndexWriterConfig(ANALYZER);
             config.setSimilarity(similarity);
 
             try (IndexWriter writer = new IndexWriter(directory, config)) {
                 Document document = new Document();
-                document.add(new TextField("content", candidateText, Field.Store.NO));
+                document.add(new TextField(CONTENT_FIELD, new AnalyzedTermsTokenStream(candidateTerms)));
                 writer.addDocument(document);
                 writer.commit();
             }
@@ -56,10 +78,6 @@ public class TextRelevanceScorer {
                 IndexSearcher searcher = new IndexSearcher(reader);
                 searcher.setSimilarity(similarity);
 
-                QueryParser parser = new QueryParser("content", analyzer);
-                parser.setDefaultOperator(QueryParser.Operator.OR);
-                Query query = parser.parse(QueryParserBase.escape(jobText));
-
                 ScoreDoc[] hits = searcher.search(query, 1).scoreDocs;
                 if (hits.length == 0) {
                     return 0.0;
@@ -73,7 +91,37 @@ public class TextRelevanceScorer {
         }
     }
 
-    private String buildCandidateText(CvMaster cvMaster) {
+    public Query buildJobQuery(Job job) {
+        String jobText = buildJobText(job);
+        if (jobText.isBlank()) {
+            return null;
+        }
+
+        Map<String, Integer> termCounts;
+        try {
+            termCounts = analyzeTerms(jobText);
+        } catch (IOException e) {
+            return null;
+        }
+        if (termCounts.isEmpty()) {
+            return null;
+        }
+
+        // Repeated job terms become a single boosted clause; scoring is equivalent to one clause per occurrence.
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        termCounts.entrySet().stream()
+                .limit(IndexSearcher.getMaxClauseCount())
+                .forEach(entry -> {
+                    Query termQuery = new TermQuery(new Term(CONTENT_FIELD, entry.getKey()));
+                    if (entry.getValue() > 1) {
+                        termQuery = new BoostQuery(termQuery, entry.getValue());
+                    }
+                    builder.add(termQuery, BooleanClause.Occur.SHOULD);
+                });
+        return builder.build();
+    }
+
+    public String buildCandidateText(CvMaster cvMaster) {
         StringBuilder builder = new StringBuilder();
 
         appendAll(builder, cvMaster.getSummary());
@@ -107,7 +155,7 @@ public class TextRelevanceScorer {
         return builder.toString().trim();
     }
 
-    private String buildJobText(Job job) {
+    public String buildJobText(Job job) {
         StringBuilder builder = new StringBuilder();
 
         append(builder, job.getTitle());
@@ -132,6 +180,55 @@ public class TextRelevanceScorer {
         return builder.toString().trim();
     }
 
+    public static Analyzer analyzer() {
+        return ANALYZER;
+    }
+
+    public static double normalizeScore(float rawScore) {
+        if (rawScore <= 0f) {
+            return 0.0;
+        }
+        return 1.0 - Math.exp(-rawScore);
+    }
+
+    public static Similarity similarityFor(TextRelevanceStrategy strategy) {
+        if (strategy == TextRelevanceStrategy.TFIDF) {
+            return new ClassicSimilarity();
+        }
+        return new BM25Similarity();
+    }
+
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream tokenStream = ANALYZER.tokenStream(CONTENT_FIELD, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            return new ArrayList<>();
+        }
+        return terms;
+    }
+
+    private Map<String, Integer> analyzeTerms(String text) throws IOException {
+        Map<String, Integer> termCounts = new LinkedHashMap<>();
+        try (TokenStream tokenStream = ANALYZER.tokenStream(CONTENT_FIELD, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                termCounts.merge(termAttribute.toString(), 1, Integer::sum);
+            }
+            tokenStream.end();
+        }
+        return termCounts;
+    }
+
     private void appendAll(StringBuilder builder, List<?> values) {
         if (values == null) {
             return;
@@ -157,17 +254,30 @@ public class TextRelevanceScorer {
         builder.append(text).append(' ');
     }
 
-    private double normalizeScore(float rawScore) {
-        if (rawScore <= 0f) {
-            return 0.0;
+    private static final class AnalyzedTermsTokenStream extends TokenStream {
+
+        private final List<String> terms;
+        private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+        private int position;
+
+        private AnalyzedTermsTokenStream(List<String> terms) {
+            this.terms = terms;
         }
-        return 1.0 - Math.exp(-rawScore);
-    }
 
-    private Similarity similarityFor(TextRelevanceStrategy strategy) {
-        if (strategy == TextRelevanceStrategy.TFIDF) {
-            return new ClassicSimilarity();
+        @Override
+        public boolean incrementToken() {
+            if (position >= terms.size()) {
+                return false;
+            }
+            clearAttributes();
+            termAttribute.setEmpty().append(terms.get(position++));
+            return true;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            position = 0;
         }
-        return new BM25Similarity();
     }
-}
\ No newline at end of file
+}
@@ -4,17 +4,14 @@ import com.villanidev.atsmatchingengine.domain.CvGenerated;
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
 import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
 import com.villanidev.atsmatchingengine.matching.scoring.ExperienceScorer;
-import com.villanidev.atsmatchingengine.shared.CandidateSkillCollector;
-import com.villanidev.atsmatchingengine.shared.SkillNormalizer;
+import com.villanidev.atsmatchingengine.matching.scoring.ScoringContext;
 
 import java.util.*;
 
 public class CvSectionsBuilder {
 
-    private final CandidateSkillCollector skillCollector = new CandidateSkillCollector();
-    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
-
     public CvGenerated.Header buildHeader(CvMaster cvMaster) {
         CvGenerated.Header header = new CvGenerated.Header();
         header.setName(cvMaster.getName());
@@ -27,41 +24,22 @@ public class CvSectionsBuilder {
     }
 
     public CvGenerated.SkillsSection buildSkillsSection(CvMaster cvMaster, Job job) {
-        CvGenerated.SkillsSection skillsSection = new CvGenerated.SkillsSection();
-
-        Set<String> allSkills = skillCollector.collectSkills(cvMaster);
-
-        Set<String> highlightedSkills = new HashSet<>();
-        Job.Requirements requirements = job.getRequirements();
+        return buildSkillsSection(MatchProfile.of(cvMaster), job);
+    }
 
-        if (requirements.getMustHaveSkills() != null) {
-            requirements.getMustHaveSkills().forEach(required ->
-                    allSkills.stream()
-                            .filter(candidateSkill -> skillNormalizer.skillMatches(candidateSkill, required))
-                            .findFirst()
-                            .ifPresent(highlightedSkills::add)
-            );
-        }
+    public CvGenerated.SkillsSection buildSkillsSection(MatchProfile profile, Job job) {
+        return buildSkillsSection(profile, ScoringContext.matchedSkills(profile, job));
+    }
 
-        if (requirements.getNiceToHaveSkills() != null) {
-            requirements.getNiceToHaveSkills().forEach(required ->
-                    allSkills.stream()
-                            .filter(candidateSkill -> skillNormalizer.skillMatches(candidateSkill, required))
-                            .findFirst()
-                            .ifPresent(highlightedSkills::add)
-            );
-        }
+    public CvGenerated.SkillsSection buildSkillsSection(ScoringContext context) {
+        return buildSkillsSection(context.getProfile(), context.getMatchedSkills());
+    }
 
-        if (requirements.getTools() != null) {
-            requirements.getTools().forEach(required ->
-                    allSkills.stream()
-                            .filter(candidateSkill -> skillNormalizer.skillMatches(candidateSkill, required))
-                            .findFirst()
-                            .ifPresent(highlightedSkills::add)
-            );
-        }
+    private CvGenerated.SkillsSection buildSkillsSection(MatchProfile profile, List<String> matchedSkills) {
+        CvGenerated.SkillsSection skillsSection = new CvGenerated.SkillsSection();
 
-        skillsSection.setHighlightedSkills(new ArrayList<>(highlightedSkills));
+        Set<String> allSkills = profile.getSkills();
+        skillsSection.setHighlightedSkills(new ArrayList<>(matchedSkills));
 
         Map<String, List<String>> skillsGrouped = new HashMap<>();
         skillsGrouped.put("all", new ArrayList<>(allSkills));
@@ -74,13 +52,18 @@ public class CvSectionsBuilder {
                                                                       Job job,
                                                                       Options options,
                                                                       ExperienceScorer experienceScorer) {
-        List<CvGenerated.ExperienceSection> experienceSections = new ArrayList<>();
+        return buildExperienceSection(ScoringContext.of(MatchProfile.of(cvMaster), job, experienceScorer), options);
+    }
 
-        if (cvMaster.getExperiences() == null) {
-            return experienceSections;
-        }
+    public List<CvGenerated.ExperienceSection> buildExperienceSection(ScoringContext context, Options options) {
+        MatchProfile profile = context.getProfile();
+        double[] experienceRelevances = context.getExperienceRelevances();
+        List<CvGenerated.ExperienceSection> experienceSections = new ArrayList<>();
 
-        for (CvMaster.Experience exp : cvMaster.getExperiences()) {
+        List<MatchProfile.ExperienceProfile> experiences = profile.getExperiences();
+        for (int i = 0; i < experiences.size(); i++) {
+            MatchProfile.ExperienceProfile experienceProfile = experiences.get(i);
+            CvMaster.Experience exp = experienceProfile.getExperience();
             CvGenerated.ExperienceSection section = new CvGenerated.ExperienceSection();
             section.setCompany(exp.getCompany());
             section.setCountry(exp.getCountry());
@@ -88,11 +71,9 @@ public class CvSectionsBuilder {
             section.setStart(exp.getStart());
             section.setEnd(exp.getEnd());
 
-            double relevanceScore = experienceScorer.computeExperienceRelevance(exp, job);
-            section.setRelevanceScore(relevanceScore);
+            section.setRelevanceScore(experienceRelevances[i]);
 
             List<String> bullets = new ArrayList<>();
-            Set<String> techStack = new HashSet<>();
 
             if (exp.getProjects() != null) {
                 for (CvMaster.Project proj : exp.getProjects()) {
@@ -102,14 +83,11 @@ public class CvSectionsBuilder {
                     if (proj.getResult() != null && !proj.getResult().isEmpty()) {
                         bullets.add(proj.getResult());
                     }
-                    if (proj.getTechStack() != null) {
-                        techStack.addAll(proj.getTechStack());
-                    }
                 }
             }
 
             section.setBullets(bullets);
-            section.setTechStack(new ArrayList<>(techStack));
+            section.setTechStack(new ArrayList<>(experienceProfile.getTechStack()));
 
             experienceSections.add(section);
         }
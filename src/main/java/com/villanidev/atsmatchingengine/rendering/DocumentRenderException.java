@@ -0,0 +1,11 @@
+package com.villanidev.atsmatchingengine.rendering;
+
+public class DocumentRenderException extends RuntimeException {
+    public DocumentRenderException(String message) {
+        super(message);
+    }
+
+    public DocumentRenderException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,49 @@
+package com.villanidev.atsmatchingengine.rendering;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class FontMetrics {
+
+    static final char FIRST_CHAR = 0x20;
+    static final char LAST_CHAR = 0x7E;
+
+    private static final Map<PDFont, FontMetrics> CACHE = new ConcurrentHashMap<>();
+
+    // Glyph advance widths in 1/1000 em for printable ASCII, the only range PDF text is sanitized to.
+    private final float[] widths = new float[LAST_CHAR - FIRST_CHAR + 1];
+
+    private FontMetrics(PDFont font) {
+        try {
+            for (char c = FIRST_CHAR; c <= LAST_CHAR; c++) {
+                widths[c - FIRST_CHAR] = font.getStringWidth(String.valueOf(c));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read glyph widths for " + font.getName(), ex);
+        }
+    }
+
+    static FontMetrics of(PDFont font) {
+        return CACHE.computeIfAbsent(font, FontMetrics::new);
+    }
+
+    float width(CharSequence text, int start, int end, float fontSize) {
+        float units = 0f;
+        for (int i = start; i < end; i++) {
+            units += charUnits(text.charAt(i));
+        }
+        return units * fontSize / 1000f;
+    }
+
+    float width(char c, float fontSize) {
+        return charUnits(c) * fontSize / 1000f;
+    }
+
+    private float charUnits(char c) {
+        return c >= FIRST_CHAR && c <= LAST_CHAR ? widths[c - FIRST_CHAR] : widths['?' - FIRST_CHAR];
+    }
+}
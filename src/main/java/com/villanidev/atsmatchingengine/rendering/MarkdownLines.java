@@ -0,0 +1,73 @@
+package com.villanidev.atsmatchingengine.rendering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+final class MarkdownLines {
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n");
+    private static final Pattern EMPHASIS = Pattern.compile("[*`]");
+
+    private MarkdownLines() {
+    }
+
+    static List<StyledLine> parse(String markdown) {
+        List<StyledLine> lines = new ArrayList<>();
+        if (markdown == null || markdown.isBlank()) {
+            return lines;
+        }
+
+        for (String rawLine : LINE_BREAK.split(markdown)) {
+            String line = rawLine.trim();
+            if (line.isBlank()) {
+                lines.add(new StyledLine("", LineStyle.SECTION_SEPARATOR));
+                continue;
+            }
+
+            if (line.startsWith("### ")) {
+                lines.add(new StyledLine(clean(line.substring(4)), LineStyle.HEADING_3));
+                continue;
+            }
+            if (line.startsWith("## ")) {
+                lines.add(new StyledLine(clean(line.substring(3)), LineStyle.HEADING_2));
+                continue;
+            }
+            if (line.startsWith("# ")) {
+                lines.add(new StyledLine(clean(line.substring(2)), LineStyle.HEADING_1));
+                continue;
+            }
+            if (line.startsWith("- ")) {
+                lines.add(new StyledLine(clean(line.substring(2)), LineStyle.BULLET));
+                continue;
+            }
+
+            lines.add(new StyledLine(clean(line), LineStyle.BODY));
+        }
+
+        return lines;
+    }
+
+    private static String clean(String text) {
+        return EMPHASIS.matcher(text).replaceAll("").trim();
+    }
+
+    enum LineStyle {
+        HEADING_1,
+        HEADING_2,
+        HEADING_3,
+        BODY,
+        BULLET,
+        SECTION_SEPARATOR
+    }
+
+    static final class StyledLine {
+        final String text;
+        final LineStyle style;
+
+        StyledLine(String text, LineStyle style) {
+            this.text = text;
+            this.style = style;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.villanidev.atsmatchingengine.rendering;
+
+import com.villanidev.atsmatchingengine.rendering.MarkdownLines.LineStyle;
+import com.villanidev.atsmatchingengine.rendering.MarkdownLines.StyledLine;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+final class PdfDocumentRenderer {
+
+    private static final PDRectangle PAGE_SIZE = PDRectangle.LETTER;
+    private static final float MARGIN = 50f;
+    private static final float LINE_WIDTH = PAGE_SIZE.getWidth() - 2 * MARGIN;
+    private static final float SEPARATOR_GAP = 6f;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}");
+    private static final Pattern NON_PRINTABLE = Pattern.compile("[^\\x20-\\x7E\\n]");
+    private static final Pattern REPEATED_SPACE = Pattern.compile("\\s{2,}");
+
+    private static final Map<LineStyle, PdfStyle> STYLES = new EnumMap<>(LineStyle.class);
+
+    static {
+        STYLES.put(LineStyle.HEADING_1, new PdfStyle(PDType1Font.HELVETICA_BOLD, 18f, 22f));
+        STYLES.put(LineStyle.HEADING_2, new PdfStyle(PDType1Font.HELVETICA_BOLD, 14f, 18f));
+        STYLES.put(LineStyle.HEADING_3, new PdfStyle(PDType1Font.HELVETICA_BOLD, 12f, 16f));
+        STYLES.put(LineStyle.BULLET, new PdfStyle(PDType1Font.HELVETICA, 11f, 15f));
+        STYLES.put(LineStyle.BODY, new PdfStyle(PDType1Font.HELVETICA, 11f, 15f));
+        STYLES.put(LineStyle.SECTION_SEPARATOR, new PdfStyle(PDType1Font.HELVETICA, 11f, 10f));
+    }
+
+    void render(List<StyledLine> lines, OutputStream outputStream) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PageWriter writer = new PageWriter(document);
+            try {
+                for (StyledLine line : lines) {
+                    PdfStyle style = STYLES.get(line.style);
+                    for (String wrapped : wrap(sanitize(line.text), style)) {
+                        writer.showLine(wrapped, style);
+                    }
+                    if (line.style == LineStyle.SECTION_SEPARATOR) {
+                        writer.skip(SEPARATOR_GAP);
+                    }
+                }
+            } finally {
+                writer.close();
+            }
+            document.save(outputStream);
+        }
+    }
+
+    List<String> wrap(String text, PdfStyle style) {
+        List<String> lines = new ArrayList<>();
+        if (text.isEmpty()) {
+            lines.add("");
+            return lines;
+        }
+        FontMetrics metrics = style.metrics;
+        float spaceWidth = metrics.width(' ', style.fontSize);
+        StringBuilder line = new StringBuilder();
+        float lineWidth = 0f;
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf(' ', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            float wordWidth = metrics.width(text, start, end, style.fontSize);
+            if (line.length() > 0 && lineWidth + spaceWidth + wordWidth > LINE_WIDTH) {
+                lines.add(line.toString());
+                line.setLength(0);
+                lineWidth = 0f;
+            }
+            if (wordWidth > LINE_WIDTH) {
+                // A single token wider than the line is broken at the last glyph that still fits.
+                for (int i = start; i < end; i++) {
+                    float charWidth = metrics.width(text.charAt(i), style.fontSize);
+                    if (line.length() > 0 && lineWidth + charWidth > LINE_WIDTH) {
+                        lines.add(line.toString());
+                        line.setLength(0);
+                        lineWidth = 0f;
+                    }
+                    line.append(text.charAt(i));
+                    lineWidth += charWidth;
+                }
+            } else {
+                if (line.length() > 0) {
+                    line.append(' ');
+                    lineWidth += spaceWidth;
+                }
+                line.append(text, start, end);
+                lineWidth += wordWidth;
+            }
+            start = end + 1;
+        }
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    static String sanitize(String text) {
+        String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("");
+        normalized = NON_PRINTABLE.matcher(normalized).replaceAll(" ");
+        normalized = REPEATED_SPACE.matcher(normalized).replaceAll(" ");
+        return normalized.trim();
+    }
+
+    static PdfStyle styleOf(LineStyle style) {
+        return STYLES.get(style);
+    }
+
+    float lineWidth() {
+        return LINE_WIDTH;
+    }
+
+    private static final class PageWriter {
+        private final PDDocument document;
+        private PDPageContentStream contentStream;
+        private float y;
+        private PDFont font;
+        private float fontSize;
+        private float leading;
+
+        private PageWriter(PDDocument document) {
+            this.document = document;
+        }
+
+        private void showLine(String text, PdfStyle style) throws IOException {
+            if (contentStream == null || y <= MARGIN + style.leading) {
+                newPage();
+            }
+            // Text state persists within a content stream, so font and leading are only emitted on change.
+            if (style.font != font || style.fontSize != fontSize) {
+                contentStream.setFont(style.font, style.fontSize);
+                font = style.font;
+                fontSize = style.fontSize;
+            }
+            if (style.leading != leading) {
+                contentStream.setLeading(style.leading);
+                leading = style.leading;
+            }
+            if (!text.isEmpty()) {
+                contentStream.showText(text);
+            }
+            contentStream.newLine();
+            y -= style.leading;
+        }
+
+        private void skip(float gap) throws IOException {
+            if (contentStream != null) {
+                contentStream.newLineAtOffset(0, -gap);
+                y -= gap;
+            }
+        }
+
+        private void newPage() throws IOException {
+            close();
+            PDPage page = new PDPage(PAGE_SIZE);
+            document.addPage(page);
+            contentStream = new PDPageContentStream(document, page);
+            contentStream.beginText();
+            y = PAGE_SIZE.getHeight() - MARGIN;
+            contentStream.newLineAtOffset(MARGIN, y);
+            font = null;
+            fontSize = 0f;
+            leading = 0f;
+        }
+
+        private void close() throws IOException {
+            if (contentStream != null) {
+                contentStream.endText();
+                contentStream.close();
+                contentStream = null;
+            }
+        }
+    }
+
+    static final class PdfStyle {
+        private final PDFont font;
+        private final float fontSize;
+        private final float leading;
+        private final FontMetrics metrics;
+
+        private PdfStyle(PDFont font, float fontSize, float leading) {
+            this.font = font;
+            this.fontSize = fontSize;
+            this.leading = leading;
+            this.metrics = FontMetrics.of(font);
+        }
+
+        PDFont font() {
+            return font;
+        }
+
+        float fontSize() {
+            return fontSize;
+        }
+    }
+}
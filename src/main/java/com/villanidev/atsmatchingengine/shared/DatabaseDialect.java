@@ -0,0 +1,39 @@
+package com.villanidev.atsmatchingengine.shared;
+
+import java.sql.DatabaseMetaData;
+import java.util.Locale;
+import javax.sql.DataSource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DatabaseDialect {
+
+    private final DataSource dataSource;
+    private volatile Boolean postgres;
+
+    public DatabaseDialect(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // Only a successful lookup is cached; a failure propagates and the next call asks the database again.
+    public boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            cached = productName().toLowerCase(Locale.ROOT).contains("postgres");
+            postgres = cached;
+        }
+        return cached;
+    }
+
+    private String productName() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product != null ? product : "";
+        } catch (MetaDataAccessException ex) {
+            throw new DataAccessResourceFailureException("Failed to read database product name", ex);
+        }
+    }
+}
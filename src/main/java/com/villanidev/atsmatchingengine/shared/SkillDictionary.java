@@ -0,0 +1,162 @@
+package com.villanidev.atsmatchingengine.shared;
+
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomy;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Only CV skills, CV domains and their taxonomy ancestors are interned; job requirements are looked up, so
+// free text scraped from postings never grows the dictionary. Past maxEntries new terms resolve to UNKNOWN.
+public final class SkillDictionary {
+
+    public static final int UNKNOWN = -1;
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillDictionary.class);
+    private static final SkillDictionary INSTANCE = new SkillDictionary(DEFAULT_MAX_ENTRIES);
+
+    private final SkillNormalizer skillNormalizer = new SkillNormalizer();
+    private final ConcurrentHashMap<String, Integer> idsBySkill = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final int maxEntries;
+    private volatile boolean full;
+
+    SkillDictionary(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public static SkillDictionary getInstance() {
+        return INSTANCE;
+    }
+
+    public int idOf(String skill) {
+        return intern(skillNormalizer.normalizeSkill(skill));
+    }
+
+    public int lookup(String skill) {
+        String normalized = skillNormalizer.normalizeSkill(skill);
+        if (normalized.isEmpty()) {
+            return UNKNOWN;
+        }
+        Integer id = idsBySkill.get(normalized);
+        return id != null ? id : UNKNOWN;
+    }
+
+    private int intern(String normalized) {
+        if (normalized.isEmpty()) {
+            return UNKNOWN;
+        }
+        Integer id = idsBySkill.get(normalized);
+        if (id != null) {
+            return id;
+        }
+        if (full) {
+            return UNKNOWN;
+        }
+        id = idsBySkill.computeIfAbsent(normalized, key -> nextId.get() < maxEntries ? nextId.getAndIncrement() : null);
+        if (id == null) {
+            full = true;
+            logger.info("Skill dictionary reached maxEntries={}; new skills will not be matched by id", maxEntries);
+            return UNKNOWN;
+        }
+        return id;
+    }
+
+    // Lookup only: a required term that no CV or taxonomy entry carries cannot match anything, so it stays UNKNOWN.
+    public int[] idsOf(List<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return new int[0];
+        }
+        int[] ids = new int[skills.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = lookup(skills.get(i));
+        }
+        return ids;
+    }
+
+    public BitSet idSetOf(Collection<String> skills) {
+        BitSet ids = new BitSet();
+        if (skills == null) {
+            return ids;
+        }
+        for (String skill : skills) {
+            int id = idOf(skill);
+            if (id != UNKNOWN) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    public BitSet expandedIdSetOf(Collection<String> skills) {
+        BitSet ids = new BitSet();
+        if (skills == null) {
+            return ids;
+        }
+        SkillTaxonomy taxonomy = SkillTaxonomy.current();
+        for (String skill : skills) {
+            String canonical = skillNormalizer.normalizeSkill(skill);
+            int id = intern(canonical);
+            if (id == UNKNOWN) {
+                continue;
+            }
+            ids.set(id);
+            for (String ancestor : taxonomy.ancestorsOf(canonical)) {
+                ids.set(intern(ancestor));
+            }
+        }
+        return ids;
+    }
+
+    public Map<Integer, String> firstNamesById(Collection<String> skills) {
+        Map<Integer, String> namesById = new HashMap<>();
+        if (skills == null) {
+            return namesById;
+        }
+        for (String skill : skills) {
+            int id = idOf(skill);
+            if (id != UNKNOWN) {
+                namesById.putIfAbsent(id, skill);
+            }
+        }
+        return namesById;
+    }
+
+    public int size() {
+        return idsBySkill.size();
+    }
+
+    // Grows monotonically with every interned term; ids resolved earlier stay valid, only UNKNOWNs may go stale.
+    public int version() {
+        return nextId.get();
+    }
+
+    public static int countMatches(BitSet candidateIds, int[] requiredIds) {
+        int matched = 0;
+        for (int id : requiredIds) {
+            if (id != UNKNOWN && candidateIds.get(id)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    public static boolean contains(int[] ids, int id) {
+        if (id == UNKNOWN) {
+            return false;
+        }
+        for (int candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package com.villanidev.atsmatchingengine.shared;
 
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomy;
+
 import java.util.Set;
 
 public class SkillNormalizer {
@@ -8,7 +10,7 @@ public class SkillNormalizer {
         if (skill == null) {
             return "";
         }
-        return skill.trim().toLowerCase();
+        return SkillTaxonomy.current().canonicalize(skill.trim().toLowerCase());
     }
 
     public boolean skillMatches(Set<String> candidateSkills, String requiredSkill) {
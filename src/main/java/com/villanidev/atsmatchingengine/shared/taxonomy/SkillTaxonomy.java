@@ -0,0 +1,160 @@
+package com.villanidev.atsmatchingengine.shared.taxonomy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public final class SkillTaxonomy {
+
+    public static final String DEFAULT_RESOURCE = "skill-taxonomy.json";
+
+    private static volatile SkillTaxonomy current;
+
+    private final Map<String, String> canonicalByAlias;
+    private final Map<String, List<String>> aliasesByCanonical;
+    private final Map<String, List<String>> ancestorsByCanonical;
+
+    private SkillTaxonomy(Map<String, String> canonicalByAlias,
+                          Map<String, List<String>> aliasesByCanonical,
+                          Map<String, List<String>> ancestorsByCanonical) {
+        this.canonicalByAlias = canonicalByAlias;
+        this.aliasesByCanonical = aliasesByCanonical;
+        this.ancestorsByCanonical = ancestorsByCanonical;
+    }
+
+    public static SkillTaxonomy current() {
+        SkillTaxonomy taxonomy = current;
+        if (taxonomy == null) {
+            synchronized (SkillTaxonomy.class) {
+                if (current == null) {
+                    current = loadDefault();
+                }
+                taxonomy = current;
+            }
+        }
+        return taxonomy;
+    }
+
+    public static void install(SkillTaxonomy taxonomy) {
+        current = taxonomy;
+    }
+
+    public static SkillTaxonomy empty() {
+        return new SkillTaxonomy(Map.of(), Map.of(), Map.of());
+    }
+
+    public static SkillTaxonomy parse(InputStream input, ObjectMapper objectMapper) throws IOException {
+        Definition definition = objectMapper.readValue(input, Definition.class);
+        return compile(definition.skills != null ? definition.skills : List.of());
+    }
+
+    public String canonicalize(String normalized) {
+        String canonical = canonicalByAlias.get(normalized);
+        return canonical != null ? canonical : normalized;
+    }
+
+    public List<String> aliasesOf(String canonical) {
+        return aliasesByCanonical.getOrDefault(canonical, List.of());
+    }
+
+    public List<String> ancestorsOf(String canonical) {
+        return ancestorsByCanonical.getOrDefault(canonical, List.of());
+    }
+
+    public int size() {
+        return aliasesByCanonical.size();
+    }
+
+    private static SkillTaxonomy compile(List<Entry> entries) {
+        Map<String, String> canonicalByAlias = new HashMap<>();
+        Map<String, List<String>> aliasesByCanonical = new HashMap<>();
+        Map<String, List<String>> parentsByCanonical = new HashMap<>();
+
+        for (Entry entry : entries) {
+            String canonical = normalize(entry.id);
+            if (canonical.isEmpty()) {
+                continue;
+            }
+            List<String> aliases = new ArrayList<>();
+            canonicalByAlias.put(canonical, canonical);
+            if (entry.aliases != null) {
+                for (String alias : entry.aliases) {
+                    String normalizedAlias = normalize(alias);
+                    if (!normalizedAlias.isEmpty() && !normalizedAlias.equals(canonical)) {
+                        canonicalByAlias.putIfAbsent(normalizedAlias, canonical);
+                        aliases.add(normalizedAlias);
+                    }
+                }
+            }
+            aliasesByCanonical.put(canonical, Collections.unmodifiableList(aliases));
+            List<String> parents = new ArrayList<>();
+            if (entry.parents != null) {
+                entry.parents.stream().map(SkillTaxonomy::normalize).filter(parent -> !parent.isEmpty()).forEach(parents::add);
+            }
+            parentsByCanonical.put(canonical, parents);
+        }
+
+        Map<String, List<String>> ancestorsByCanonical = new HashMap<>();
+        for (String canonical : parentsByCanonical.keySet()) {
+            Set<String> ancestors = new LinkedHashSet<>();
+            collectAncestors(canonical, canonicalByAlias, parentsByCanonical, ancestors);
+            ancestors.remove(canonical);
+            if (!ancestors.isEmpty()) {
+                ancestorsByCanonical.put(canonical, List.copyOf(ancestors));
+            }
+        }
+
+        return new SkillTaxonomy(canonicalByAlias, aliasesByCanonical, ancestorsByCanonical);
+    }
+
+    private static void collectAncestors(String canonical,
+                                         Map<String, String> canonicalByAlias,
+                                         Map<String, List<String>> parentsByCanonical,
+                                         Set<String> ancestors) {
+        for (String parent : parentsByCanonical.getOrDefault(canonical, List.of())) {
+            String resolved = canonicalByAlias.getOrDefault(parent, parent);
+            // The visited set doubles as cycle protection for malformed hierarchies.
+            if (ancestors.add(resolved)) {
+                collectAncestors(resolved, canonicalByAlias, parentsByCanonical, ancestors);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static SkillTaxonomy loadDefault() {
+        try (InputStream input = SkillTaxonomy.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (input == null) {
+                return empty();
+            }
+            return parse(input, new ObjectMapper());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to load default skill taxonomy", ex);
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Definition {
+        public List<Entry> skills;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Entry {
+        public String id;
+        public List<String> aliases;
+        public List<String> parents;
+    }
+}
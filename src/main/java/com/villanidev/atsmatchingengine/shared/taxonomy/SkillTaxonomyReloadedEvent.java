@@ -0,0 +1,14 @@
+package com.villanidev.atsmatchingengine.shared.taxonomy;
+
+public class SkillTaxonomyReloadedEvent {
+
+    private final SkillTaxonomy taxonomy;
+
+    public SkillTaxonomyReloadedEvent(SkillTaxonomy taxonomy) {
+        this.taxonomy = taxonomy;
+    }
+
+    public SkillTaxonomy getTaxonomy() {
+        return taxonomy;
+    }
+}
@@ -0,0 +1,81 @@
+package com.villanidev.atsmatchingengine.shared.taxonomy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SkillTaxonomyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillTaxonomyService.class);
+
+    private final Resource resource;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private long lastModified;
+
+    public SkillTaxonomyService(
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${taxonomy.location:classpath:" + SkillTaxonomy.DEFAULT_RESOURCE + "}") String location) {
+        this.resource = resourceLoader.getResource(location);
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        SkillTaxonomy.install(load());
+        this.lastModified = lastModified();
+        logger.info("Skill taxonomy loaded location={} skills={}", location, SkillTaxonomy.current().size());
+    }
+
+    public SkillTaxonomy current() {
+        return SkillTaxonomy.current();
+    }
+
+    @Scheduled(fixedDelayString = "${taxonomy.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        long modified = lastModified();
+        if (modified <= 0 || modified == lastModified) {
+            return;
+        }
+        try {
+            reload();
+            lastModified = modified;
+        } catch (Exception ex) {
+            logger.info("Skill taxonomy reload failed, keeping previous version. message={}", ex.getMessage());
+        }
+    }
+
+    public synchronized SkillTaxonomy reload() {
+        SkillTaxonomy taxonomy = load();
+        SkillTaxonomy.install(taxonomy);
+        logger.info("Skill taxonomy reloaded skills={}", taxonomy.size());
+        eventPublisher.publishEvent(new SkillTaxonomyReloadedEvent(taxonomy));
+        return taxonomy;
+    }
+
+    private SkillTaxonomy load() {
+        try (InputStream input = resource.getInputStream()) {
+            return SkillTaxonomy.parse(input, objectMapper);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to load skill taxonomy from " + resource.getDescription(), ex);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            // Only file-backed locations can change at runtime; classpath resources inside a jar report 0.
+            return resource.isFile() ? resource.lastModified() : 0L;
+        } catch (IOException ex) {
+            return 0L;
+        }
+    }
+}
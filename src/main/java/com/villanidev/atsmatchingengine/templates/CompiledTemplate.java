@@ -0,0 +1,88 @@
+package com.villanidev.atsmatchingengine.templates;
+
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+public final class CompiledTemplate implements CvTemplate {
+
+    private static final Map<String, BiConsumer<CvGenerated, StringBuilder>> PLACEHOLDERS = Map.of(
+            "header", MarkdownSections::header,
+            "name", MarkdownSections::name,
+            "title", MarkdownSections::title,
+            "contact", MarkdownSections::contact,
+            "summary", MarkdownSections::summary,
+            "skills", MarkdownSections::skills,
+            "experience", MarkdownSections::experience,
+            "education", MarkdownSections::education,
+            "languages", MarkdownSections::languages
+    );
+
+    private final String name;
+    private final List<BiConsumer<CvGenerated, StringBuilder>> segments;
+    private volatile int sizeHint;
+
+    private CompiledTemplate(String name, List<BiConsumer<CvGenerated, StringBuilder>> segments, int literalLength) {
+        this.name = name;
+        this.segments = segments;
+        this.sizeHint = literalLength + 4096;
+    }
+
+    // Source is markdown with {{placeholder}} sections; it is split once into literal and section writers.
+    public static CompiledTemplate compile(String name, String source) {
+        List<BiConsumer<CvGenerated, StringBuilder>> segments = new ArrayList<>();
+        int literalLength = 0;
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                literalLength += addLiteral(segments, source.substring(position));
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template " + name + " at offset " + open);
+            }
+            literalLength += addLiteral(segments, source.substring(position, open));
+            String key = source.substring(open + 2, close).trim();
+            BiConsumer<CvGenerated, StringBuilder> section = PLACEHOLDERS.get(key);
+            if (section == null) {
+                throw new IllegalArgumentException("Unknown placeholder {{" + key + "}} in template " + name);
+            }
+            segments.add(section);
+            position = close + 2;
+        }
+        return new CompiledTemplate(name, List.copyOf(segments), literalLength);
+    }
+
+    private static int addLiteral(List<BiConsumer<CvGenerated, StringBuilder>> segments, String literal) {
+        if (!literal.isEmpty()) {
+            segments.add((cvGenerated, out) -> out.append(literal));
+        }
+        return literal.length();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void render(CvGenerated cvGenerated, StringBuilder out) {
+        int start = out.length();
+        for (BiConsumer<CvGenerated, StringBuilder> segment : segments) {
+            segment.accept(cvGenerated, out);
+        }
+        int rendered = out.length() - start;
+        if (rendered > sizeHint) {
+            sizeHint = rendered;
+        }
+    }
+
+    @Override
+    public int sizeHint() {
+        return sizeHint;
+    }
+}
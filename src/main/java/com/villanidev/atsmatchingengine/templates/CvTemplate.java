@@ -3,5 +3,16 @@ package com.villanidev.atsmatchingengine.templates;
 import com.villanidev.atsmatchingengine.domain.CvGenerated;
 
 public interface CvTemplate {
-    String renderMarkdown(CvGenerated cvGenerated);
+
+    void render(CvGenerated cvGenerated, StringBuilder out);
+
+    default int sizeHint() {
+        return 4096;
+    }
+
+    default String renderMarkdown(CvGenerated cvGenerated) {
+        StringBuilder markdown = new StringBuilder(sizeHint());
+        render(cvGenerated, markdown);
+        return markdown.toString();
+    }
 }
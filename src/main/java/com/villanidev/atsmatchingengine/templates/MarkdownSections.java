@@ -0,0 +1,159 @@
+package com.villanidev.atsmatchingengine.templates;
+
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+
+final class MarkdownSections {
+
+    private MarkdownSections() {
+    }
+
+    static void header(CvGenerated cvGenerated, StringBuilder markdown) {
+        markdown.append("# ");
+        name(cvGenerated, markdown);
+        markdown.append("\n**");
+        title(cvGenerated, markdown);
+        markdown.append("**\n\n");
+        int length = markdown.length();
+        contact(cvGenerated, markdown);
+        if (markdown.length() > length) {
+            markdown.append("\n");
+        }
+        markdown.append("\n---\n\n");
+    }
+
+    static void name(CvGenerated cvGenerated, StringBuilder markdown) {
+        appendOrFallback(markdown, header(cvGenerated).getName(), "Candidate");
+    }
+
+    static void title(CvGenerated cvGenerated, StringBuilder markdown) {
+        appendOrFallback(markdown, header(cvGenerated).getTitle(), "Professional");
+    }
+
+    static void contact(CvGenerated cvGenerated, StringBuilder markdown) {
+        CvGenerated.Header header = header(cvGenerated);
+        int start = markdown.length();
+        appendLabeled(markdown, start, "Location", header.getLocation());
+        appendLabeled(markdown, start, "Email", header.getEmail());
+        appendLabeled(markdown, start, "Phone", header.getPhone());
+        appendLabeled(markdown, start, "LinkedIn", header.getLinkedin());
+    }
+
+    static void summary(CvGenerated cvGenerated, StringBuilder markdown) {
+        if (cvGenerated.getSummary() == null || cvGenerated.getSummary().isEmpty()) {
+            return;
+        }
+        markdown.append("## Summary\n\n");
+        cvGenerated.getSummary().forEach(s -> markdown.append("- ").append(s).append("\n"));
+        markdown.append("\n");
+    }
+
+    static void skills(CvGenerated cvGenerated, StringBuilder markdown) {
+        if (cvGenerated.getSkillsSection() == null || cvGenerated.getSkillsSection().getHighlightedSkills() == null) {
+            return;
+        }
+        markdown.append("## Skills\n\n");
+        String separator = "";
+        for (String skill : cvGenerated.getSkillsSection().getHighlightedSkills()) {
+            markdown.append(separator).append(skill);
+            separator = " · ";
+        }
+        markdown.append("\n\n");
+    }
+
+    static void experience(CvGenerated cvGenerated, StringBuilder markdown) {
+        if (cvGenerated.getExperienceSection() == null || cvGenerated.getExperienceSection().isEmpty()) {
+            return;
+        }
+        markdown.append("## Experience\n\n");
+        for (CvGenerated.ExperienceSection exp : cvGenerated.getExperienceSection()) {
+            markdown.append("### ");
+            appendOrFallback(markdown, exp.getTitle(), "Role");
+            markdown.append(" · ");
+            appendOrFallback(markdown, exp.getCompany(), "Company");
+            markdown.append("\n");
+
+            String timeline = joinNonBlank(" · ",
+                    joinNonBlank(" - ", exp.getStart(), exp.getEnd()),
+                    exp.getCountry() != null ? "Location: " + exp.getCountry() : null
+            );
+            if (!timeline.isBlank()) {
+                markdown.append(timeline).append("\n");
+            }
+            markdown.append("\n");
+            if (exp.getBullets() != null) {
+                exp.getBullets().forEach(bullet -> markdown.append("- ").append(bullet).append("\n"));
+            }
+            markdown.append("\n");
+        }
+    }
+
+    static void education(CvGenerated cvGenerated, StringBuilder markdown) {
+        if (cvGenerated.getEducationSection() == null || cvGenerated.getEducationSection().isEmpty()) {
+            return;
+        }
+        markdown.append("## Education\n\n");
+        for (CvGenerated.EducationSection edu : cvGenerated.getEducationSection()) {
+            markdown.append("### ");
+            appendOrFallback(markdown, edu.getDegree(), "Degree");
+            markdown.append("\n");
+
+            String institutionLine = joinNonBlank(", ", edu.getInstitution(), edu.getCountry());
+            if (!institutionLine.isBlank()) {
+                markdown.append(institutionLine).append("\n");
+            }
+
+            String period = joinNonBlank(" - ", edu.getStart(), edu.getEnd());
+            if (!period.isBlank()) {
+                markdown.append(period).append("\n");
+            }
+
+            markdown.append("\n");
+        }
+    }
+
+    static void languages(CvGenerated cvGenerated, StringBuilder markdown) {
+        if (cvGenerated.getLanguagesSection() == null || cvGenerated.getLanguagesSection().isEmpty()) {
+            return;
+        }
+        markdown.append("## Languages\n\n");
+        for (CvGenerated.LanguageSection lang : cvGenerated.getLanguagesSection()) {
+            markdown.append("- ").append(lang.getName()).append(": ").append(lang.getLevel()).append("\n");
+        }
+    }
+
+    private static CvGenerated.Header header(CvGenerated cvGenerated) {
+        return cvGenerated.getHeader() != null ? cvGenerated.getHeader() : new CvGenerated.Header();
+    }
+
+    private static void appendLabeled(StringBuilder markdown, int start, String label, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        if (markdown.length() > start) {
+            markdown.append(" | ");
+        }
+        markdown.append(label).append(": ").append(value.trim());
+    }
+
+    private static void appendOrFallback(StringBuilder markdown, String value, String fallback) {
+        if (value == null || value.isBlank()) {
+            markdown.append(fallback);
+        } else {
+            markdown.append(value.trim());
+        }
+    }
+
+    private static String joinNonBlank(String separator, String... values) {
+        StringBuilder joined = new StringBuilder();
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            if (!joined.isEmpty()) {
+                joined.append(separator);
+            }
+            joined.append(value.trim());
+        }
+        return joined.toString();
+    }
+}
@@ -1,34 +1,122 @@
 package com.villanidev.atsmatchingengine.templates;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+@Component
 public class TemplateRegistry {
 
-    private final Map<String, CvTemplate> templates = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(TemplateRegistry.class);
+
+    private static final String TEMPLATE_EXTENSION = ".md";
+    private static final Pattern NON_KEY_CHARS = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern EDGE_UNDERSCORES = Pattern.compile("^_+|_+$");
+
+    private final Path directory;
     private final Map<String, String> profileToTemplate = new HashMap<>();
+    private volatile Map<String, CvTemplate> templates;
+    private String fingerprint = "";
 
-    public TemplateRegistry() {
-        templates.put("default", new DefaultMarkdownTemplate());
+    public TemplateRegistry(@Value("${templates.directory:}") String directory) {
+        this.directory = directory == null || directory.isBlank() ? null : Paths.get(directory);
         registerProfileAliases();
+        this.templates = load();
+        this.fingerprint = fingerprint();
     }
 
     public CvTemplate getTemplate(String name) {
+        Map<String, CvTemplate> current = templates;
         if (name == null || name.isBlank()) {
-            return templates.get("default");
+            return current.get("default");
         }
-        return templates.getOrDefault(normalizeKey(name), templates.get("default"));
+        return current.getOrDefault(normalizeKey(name), current.get("default"));
     }
 
     public CvTemplate getTemplateForProfile(String profile) {
+        Map<String, CvTemplate> current = templates;
         if (profile == null || profile.isBlank()) {
-            return templates.get("default");
+            return current.get("default");
         }
 
         String normalizedProfile = normalizeKey(profile);
+        CvTemplate own = current.get(normalizedProfile);
+        if (own != null) {
+            return own;
+        }
         String templateName = profileToTemplate.getOrDefault(normalizedProfile, normalizedProfile);
-        return templates.getOrDefault(templateName, templates.get("default"));
+        return current.getOrDefault(templateName, current.get("default"));
+    }
+
+    @Scheduled(fixedDelayString = "${templates.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        if (directory == null) {
+            return;
+        }
+        String current = fingerprint();
+        if (current.equals(fingerprint)) {
+            return;
+        }
+        templates = load();
+        fingerprint = current;
+        logger.info("Templates reloaded directory={} templates={}", directory, templates.size());
+    }
+
+    private Map<String, CvTemplate> load() {
+        Map<String, CvTemplate> loaded = new HashMap<>();
+        loaded.put("default", new DefaultMarkdownTemplate());
+        for (Path file : templateFiles()) {
+            String fileName = file.getFileName().toString();
+            String name = normalizeKey(fileName.substring(0, fileName.length() - TEMPLATE_EXTENSION.length()));
+            try {
+                loaded.put(name, CompiledTemplate.compile(name, Files.readString(file, StandardCharsets.UTF_8)));
+            } catch (IOException | IllegalArgumentException ex) {
+                logger.info("Skipping template file={} message={}", file, ex.getMessage());
+            }
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private List<Path> templateFiles() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(TEMPLATE_EXTENSION))
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            logger.info("Failed to list templates directory={} message={}", directory, ex.getMessage());
+            return List.of();
+        }
+    }
+
+    private String fingerprint() {
+        List<String> entries = new ArrayList<>();
+        for (Path file : templateFiles()) {
+            try {
+                entries.add(file.getFileName() + ":" + Files.getLastModifiedTime(file).toMillis() + ":" + Files.size(file));
+            } catch (IOException ex) {
+                entries.add(file.getFileName() + ":?");
+            }
+        }
+        return String.join("|", entries);
     }
 
     private void registerProfileAliases() {
@@ -55,8 +143,8 @@ public class TemplateRegistry {
 
     private String normalizeKey(String value) {
         String normalized = value.toLowerCase(Locale.ROOT).trim();
-        normalized = normalized.replaceAll("[^a-z0-9]+", "_");
-        normalized = normalized.replaceAll("^_+|_+$", "");
+        normalized = NON_KEY_CHARS.matcher(normalized).replaceAll("_");
+        normalized = EDGE_UNDERSCORES.matcher(normalized).replaceAll("");
         return normalized;
     }
 }
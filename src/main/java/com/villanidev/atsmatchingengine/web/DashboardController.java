@@ -4,6 +4,7 @@ import com.villanidev.atsmatchingengine.elt.orchestration.EltExecution;
 import com.villanidev.atsmatchingengine.elt.orchestration.EltExecutionItemRepository;
 import com.villanidev.atsmatchingengine.elt.orchestration.EltExecutionRepository;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -33,10 +34,16 @@ public class DashboardController {
                 PageRequest.of(0, Math.min(Math.max(executionsLimit, 1), 50), Sort.by(Sort.Direction.DESC, "startedAt")))
                 .getContent();
         model.addAttribute("executions", executions);
-        model.addAttribute("itemsByExecution", executions.stream().collect(java.util.stream.Collectors.toMap(
+        model.addAttribute("itemsByExecution", executions.stream().collect(Collectors.toMap(
                 EltExecution::getId,
                 exec -> itemRepository.findByExecutionId(exec.getId())
         )));
+        List<EltStageBreakdown> breakdowns = EltStageBreakdown.of(executions);
+        model.addAttribute("stageTrend", breakdowns);
+        model.addAttribute("stagesByExecution", breakdowns.stream().collect(Collectors.toMap(
+                EltStageBreakdown::getExecutionId,
+                breakdown -> breakdown
+        )));
         return "dashboard";
     }
 }
@@ -0,0 +1,146 @@
+package com.villanidev.atsmatchingengine.web;
+
+import com.villanidev.atsmatchingengine.elt.EltStage;
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecution;
+import java.util.ArrayList;
+import java.util.List;
+
+public class EltStageBreakdown {
+
+    private final Long executionId;
+    private final long totalMs;
+    private final List<Stage> stages;
+
+    private EltStageBreakdown(Long executionId, long totalMs, List<Stage> stages) {
+        this.executionId = executionId;
+        this.totalMs = totalMs;
+        this.stages = stages;
+    }
+
+    // Bar widths are relative to the slowest run, so the trend shows both where time went and how runs compare.
+    public static List<EltStageBreakdown> of(List<EltExecution> executions) {
+        long maxTotalMs = 0;
+        for (EltExecution execution : executions) {
+            maxTotalMs = Math.max(maxTotalMs, totalMs(execution));
+        }
+        List<EltStageBreakdown> breakdowns = new ArrayList<>(executions.size());
+        for (EltExecution execution : executions) {
+            breakdowns.add(of(execution, maxTotalMs));
+        }
+        return breakdowns;
+    }
+
+    static EltStageBreakdown of(EltExecution execution, long scaleMs) {
+        long totalMs = totalMs(execution);
+        List<Stage> stages = new ArrayList<>();
+        for (EltStage stage : EltStage.values()) {
+            Long durationMs = durationMs(execution, stage);
+            if (durationMs == null) {
+                continue;
+            }
+            stages.add(new Stage(
+                    stage,
+                    items(execution, stage),
+                    durationMs,
+                    rowsPerSecond(execution, stage),
+                    percent(durationMs, totalMs),
+                    percent(durationMs, scaleMs)));
+        }
+        return new EltStageBreakdown(execution.getId(), totalMs, stages);
+    }
+
+    private static long totalMs(EltExecution execution) {
+        long total = 0;
+        for (EltStage stage : EltStage.values()) {
+            Long durationMs = durationMs(execution, stage);
+            total += durationMs != null ? durationMs : 0;
+        }
+        return total;
+    }
+
+    private static double percent(long part, long whole) {
+        return whole > 0 ? part * 100.0 / whole : 0.0;
+    }
+
+    private static Long durationMs(EltExecution execution, EltStage stage) {
+        return switch (stage) {
+            case EXTRACT -> execution.getExtractDurationMs();
+            case LOAD -> execution.getLoadDurationMs();
+            case NORMALIZE -> execution.getNormalizeDurationMs();
+            case MATCH -> execution.getMatchDurationMs();
+        };
+    }
+
+    private static Integer items(EltExecution execution, EltStage stage) {
+        return switch (stage) {
+            case EXTRACT -> execution.getExtractedCount();
+            case LOAD -> execution.getLoadedCount();
+            case NORMALIZE -> execution.getNormalizedCount();
+            case MATCH -> execution.getGeneratedCount();
+        };
+    }
+
+    private static Double rowsPerSecond(EltExecution execution, EltStage stage) {
+        return switch (stage) {
+            case EXTRACT -> execution.getExtractRowsPerSecond();
+            case LOAD -> execution.getLoadRowsPerSecond();
+            case NORMALIZE -> execution.getNormalizeRowsPerSecond();
+            case MATCH -> execution.getMatchRowsPerSecond();
+        };
+    }
+
+    public Long getExecutionId() {
+        return executionId;
+    }
+
+    public long getTotalMs() {
+        return totalMs;
+    }
+
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    public static class Stage {
+        private final EltStage stage;
+        private final Integer items;
+        private final long durationMs;
+        private final Double rowsPerSecond;
+        private final double sharePercent;
+        private final double widthPercent;
+
+        Stage(EltStage stage, Integer items, long durationMs, Double rowsPerSecond,
+              double sharePercent, double widthPercent) {
+            this.stage = stage;
+            this.items = items;
+            this.durationMs = durationMs;
+            this.rowsPerSecond = rowsPerSecond;
+            this.sharePercent = sharePercent;
+            this.widthPercent = widthPercent;
+        }
+
+        public EltStage getStage() {
+            return stage;
+        }
+
+        public Integer getItems() {
+            return items;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        public Double getRowsPerSecond() {
+            return rowsPerSecond;
+        }
+
+        public double getSharePercent() {
+            return sharePercent;
+        }
+
+        public double getWidthPercent() {
+            return widthPercent;
+        }
+    }
+}
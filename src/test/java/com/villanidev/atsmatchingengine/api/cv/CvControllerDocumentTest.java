@@ -0,0 +1,110 @@
+package com.villanidev.atsmatchingengine.api.cv;
+
+import com.villanidev.atsmatchingengine.cv.CvBatchMatchingService;
+import com.villanidev.atsmatchingengine.cv.CvDocumentService;
+import com.villanidev.atsmatchingengine.cv.CvMatchingService;
+import com.villanidev.atsmatchingengine.cv.CvTopMatchService;
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.parsing.CvUploadParser;
+import com.villanidev.atsmatchingengine.rendering.DocumentFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CvController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class CvControllerDocumentTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String ETAG = "\"" + HASH + "\"";
+    private static final byte[] PDF = "%PDF-1.4 cv".getBytes();
+
+    @TempDir
+    static Path directory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CvDocumentService cvDocumentService;
+    @MockBean
+    private CvMatchingService cvMatchingService;
+    @MockBean
+    private CvMasterStoreService cvMasterStoreService;
+    @MockBean
+    private CvBatchMatchingService cvBatchMatchingService;
+    @MockBean
+    private CvGeneratedStoreService cvGeneratedStoreService;
+    @MockBean
+    private CvTopMatchService cvTopMatchService;
+    @MockBean
+    private CvUploadParser cvUploadParser;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path path = Files.write(directory.resolve(HASH), PDF);
+        when(cvDocumentService.open(7L, DocumentFormat.PDF))
+                .thenReturn(Optional.of(new CvDocumentService.StoredDocument(HASH, path)));
+    }
+
+    @Test
+    void streamsTheStoredFileWithItsHashAsETag() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/cv/generated/7/pdf"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/pdf"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, PDF.length))
+                .andExpect(content().bytes(PDF))
+                .andReturn();
+
+        assertEquals(1, result.getResponse().getHeaders(HttpHeaders.ETAG).size());
+    }
+
+    @Test
+    void answersNotModifiedWithValidatorsWhenTheETagMatches() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/cv/generated/7/download")
+                        .param("format", "pdf")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn();
+
+        assertEquals(1, result.getResponse().getHeaders(HttpHeaders.ETAG).size());
+        assertEquals(ETAG, result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals(0, result.getResponse().getContentLength());
+    }
+
+    @Test
+    void hasNoDocumentForAnUnknownGeneratedCv() throws Exception {
+        when(cvDocumentService.open(8L, DocumentFormat.PDF)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/cv/generated/8/pdf"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,156 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CvAutoMatchingServiceTest {
+
+    private final CvMatchingService matchingService = mock(CvMatchingService.class);
+    private final CvMasterStoreService cvMasterStoreService = mock(CvMasterStoreService.class);
+    private final CvMatchMarkService matchMarkService = mock(CvMatchMarkService.class);
+    private final CvGeneratedStoreService generatedStoreService = mock(CvGeneratedStoreService.class);
+    private final CvMasterEntity cvMaster = new CvMasterEntity();
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        cvMaster.setId(1L);
+        when(cvMasterStoreService.findEntity(1L)).thenReturn(Optional.of(cvMaster));
+        when(matchingService.loadProfile(cvMaster)).thenReturn(MatchProfile.of(new CvMaster()));
+        when(generatedStoreService.findGeneratedJobIds(1L)).thenReturn(new long[0]);
+        pool = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void keepsAtMostConcurrencyItemsInFlight() {
+        List<JobPostingNormalized> jobs = jobs(12);
+        when(matchMarkService.nextJobs(eq(cvMaster), anyInt())).thenReturn(jobs);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(matchingService.match(any(), any(), any(), any(), anyBoolean())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            inFlight.decrementAndGet();
+            return Optional.of(new CvGeneratedEntity());
+        });
+
+        CvAutoMatchingService.AutoMatchResult result = service(pool::execute, 3)
+                .matchAll(List.of(1L), new Options(), 50, generated -> { });
+
+        assertEquals(12, result.getGenerated());
+        assertTrue(maxInFlight.get() <= 3, "max in flight " + maxInFlight.get());
+        verify(matchMarkService).advance(cvMaster, jobs, Set.of());
+    }
+
+    @Test
+    void countsFailedAndRejectedItemsAndHoldsTheMarkBackAtThem() {
+        List<JobPostingNormalized> jobs = jobs(4);
+        when(matchMarkService.nextJobs(eq(cvMaster), anyInt())).thenReturn(jobs);
+        when(matchingService.match(any(), any(), any(), any(), anyBoolean())).thenAnswer(invocation -> {
+            JobPostingNormalized job = invocation.getArgument(2);
+            if (job.getId() == 3L) {
+                throw new IllegalArgumentException("broken posting");
+            }
+            return Optional.of(new CvGeneratedEntity());
+        });
+        AtomicInteger submissions = new AtomicInteger();
+        CvAutoMatchingService service = service(command -> {
+            if (submissions.incrementAndGet() == 2) {
+                throw new RejectedExecutionException("saturated");
+            }
+            pool.execute(command);
+        }, 1);
+
+        // With one permit, a leaked permit on rejection would block the producer forever.
+        CvAutoMatchingService.AutoMatchResult result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> service.matchAll(List.of(1L), new Options(), 50, generated -> { }));
+
+        assertEquals(4, result.getItems());
+        assertEquals(2, result.getGenerated());
+        assertEquals(2, result.getFailed());
+        verify(matchMarkService).advance(cvMaster, jobs, Set.of(2L, 3L));
+    }
+
+    private CvAutoMatchingService service(Executor executor, int concurrency) {
+        return service(executor, concurrency, 50);
+    }
+
+    private CvAutoMatchingService service(Executor executor, int concurrency, int batchSize) {
+        return new CvAutoMatchingService(matchingService, cvMasterStoreService, matchMarkService,
+                generatedStoreService, executor, concurrency, 25, batchSize);
+    }
+
+    @Test
+    void storesGeneratedCvsInBatchesBeforeAdvancingTheMark() {
+        List<JobPostingNormalized> jobs = jobs(12);
+        when(matchMarkService.nextJobs(eq(cvMaster), anyInt())).thenReturn(jobs);
+        when(matchingService.match(any(), any(), any(), any(), anyBoolean()))
+                .thenAnswer(invocation -> Optional.of(new CvGeneratedEntity()));
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(generatedStoreService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CvGeneratedEntity> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return batch;
+        });
+
+        CvAutoMatchingService.AutoMatchResult result = service(pool::execute, 4, 5)
+                .matchAll(List.of(1L), new Options(), 50, generated -> { });
+
+        assertEquals(12, result.getGenerated());
+        assertEquals(List.of(2, 5, 5), batchSizes.stream().sorted().toList());
+        verify(generatedStoreService, never()).save(any(CvGeneratedEntity.class));
+        InOrder order = inOrder(generatedStoreService, matchMarkService);
+        order.verify(generatedStoreService, times(3)).saveAll(anyList());
+        order.verify(matchMarkService).advance(cvMaster, jobs, Set.of());
+    }
+
+    private List<JobPostingNormalized> jobs(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(id -> {
+            JobPostingNormalized job = new JobPostingNormalized();
+            job.setId(id);
+            return job;
+        }).toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvGeneratedStoreService;
+import com.villanidev.atsmatchingengine.cv.storage.FileArtifactStore;
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import com.villanidev.atsmatchingengine.rendering.DocumentFormat;
+import com.villanidev.atsmatchingengine.rendering.DocumentRenderException;
+import com.villanidev.atsmatchingengine.templates.TemplateRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CvDocumentServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final CvGeneratedStoreService generatedStoreService = mock(CvGeneratedStoreService.class);
+    private final CvGeneratedEntity entity = new CvGeneratedEntity();
+    private final CvGenerated generated = new CvGenerated();
+    private CvDocumentService service;
+
+    @BeforeEach
+    void setUp() {
+        entity.setId(5L);
+        when(generatedStoreService.findEntity(5L)).thenReturn(Optional.of(entity));
+        when(generatedStoreService.readPayload(entity)).thenReturn(generated);
+        service = new CvDocumentService(generatedStoreService, new FileArtifactStore(directory.toString()),
+                new TemplateRegistry(null), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void returnsOnlyTheRequestedFormatsInline() {
+        CvGenerated.Output output = new CvGenerated.Output();
+        output.setMarkdown("# Jane Doe\n\n## Experience\n- Shipped things\n");
+        generated.setOutput(output);
+
+        CvGenerated.Output inline = service.inlineOutput(5L, List.of("markdown", "pdf")).orElseThrow();
+
+        assertEquals(output.getMarkdown(), inline.getMarkdown());
+        assertNotNull(inline.getPdfBase64());
+        assertTrue(new String(Base64.getDecoder().decode(inline.getPdfBase64())).startsWith("%PDF"));
+        assertNull(inline.getDocxBase64());
+        assertTrue(service.inlineOutput(5L, null).isEmpty());
+    }
+
+    @Test
+    void failsInsteadOfReportingMissingWhenThereIsNothingToRender() {
+        when(generatedStoreService.artifactHash(any(), eq(DocumentFormat.PDF))).thenReturn(null);
+
+        assertThrows(DocumentRenderException.class, () -> service.open(5L, DocumentFormat.PDF));
+    }
+}
@@ -0,0 +1,116 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterRepository;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// The tsvector domain lets H2 create job_posting_normalized, whose search column is PostgreSQL-only.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:match-mark;INIT=CREATE DOMAIN IF NOT EXISTS TSVECTOR AS VARCHAR",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CvMatchMarkServiceTest {
+
+    private static final LocalDateTime NORMALIZED_AT = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Autowired
+    private CvMasterRepository cvMasterRepository;
+
+    @Autowired
+    private JobPostingNormalizedRepository jobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CvMasterStoreService cvMasterStoreService;
+    private CvMatchMarkService matchMarkService;
+    private List<JobPostingNormalized> jobs;
+
+    @BeforeEach
+    void setUp() {
+        cvMasterStoreService = new CvMasterStoreService(cvMasterRepository, new ObjectMapper(), List.of());
+        matchMarkService = new CvMatchMarkService(jobRepository, cvMasterStoreService);
+        jobs = List.of(job(NORMALIZED_AT), job(NORMALIZED_AT), job(NORMALIZED_AT.plusMinutes(1)));
+    }
+
+    @Test
+    void advancesPastMatchedJobsAndResumesWithNewOnes() {
+        CvMasterEntity cv = cvMasterStoreService.save(cv());
+        assertEquals(ids(jobs), ids(matchMarkService.nextJobs(cv, 10)));
+
+        matchMarkService.advance(cv, jobs, Set.of());
+        JobPostingNormalized later = job(NORMALIZED_AT.plusMinutes(2));
+
+        assertEquals(ids(List.of(later)), ids(matchMarkService.nextJobs(reload(cv), 10)));
+    }
+
+    @Test
+    void failedJobHoldsTheMarkBackSoItIsRetried() {
+        CvMasterEntity cv = cvMasterStoreService.save(cv());
+
+        matchMarkService.advance(cv, jobs, Set.of(jobs.get(1).getId()));
+
+        assertEquals(ids(jobs.subList(1, 3)), ids(matchMarkService.nextJobs(reload(cv), 10)));
+    }
+
+    @Test
+    void cvUpdateResetsTheMarkAndDropsAdvancesFromTheOldVersion() {
+        CvMasterEntity stale = cvMasterStoreService.save(cv());
+        matchMarkService.advance(stale, jobs.subList(0, 1), Set.of());
+        stale = reload(stale);
+        entityManager.detach(stale);
+
+        cvMasterStoreService.update(stale.getId(), cv());
+        boolean advanced = cvMasterStoreService.advanceMatchMark(stale, jobs.get(2).getNormalizedAt(), jobs.get(2).getId());
+
+        assertFalse(advanced);
+        assertEquals(ids(jobs), ids(matchMarkService.nextJobs(reload(stale), 10)));
+    }
+
+    // The mark is written by a bulk update, which bypasses the persistence context of the test transaction.
+    private CvMasterEntity reload(CvMasterEntity cv) {
+        entityManager.flush();
+        entityManager.clear();
+        return cvMasterRepository.findById(cv.getId()).orElseThrow();
+    }
+
+    private List<Long> ids(List<JobPostingNormalized> postings) {
+        return postings.stream().map(JobPostingNormalized::getId).toList();
+    }
+
+    private CvMaster cv() {
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setName("Ana");
+        cvMaster.setTitle("Backend Engineer");
+        cvMaster.setEmail("ana@example.com");
+        return cvMaster;
+    }
+
+    private JobPostingNormalized job(LocalDateTime normalizedAt) {
+        JobPostingNormalized job = new JobPostingNormalized();
+        job.setSource("greenhouse");
+        job.setTitle("Java Engineer");
+        job.setNormalizedAt(normalizedAt);
+        return jobRepository.save(job);
+    }
+}
@@ -0,0 +1,144 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterEntity;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.matching.index.CvTextIndex;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfileCache;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CvTopMatchServiceTest {
+
+    // jobPostingId -> must-have skills; the CV below knows java and spring.
+    private static final Map<Long, List<String>> REQUIREMENTS = Map.of(
+            1L, List.of("cobol"),
+            2L, List.of("java", "spring"),
+            3L, List.of("java", "cobol"),
+            4L, List.of("java", "spring"),
+            5L, List.of("cobol", "fortran"),
+            6L, List.of("spring", "fortran"),
+            7L, List.of("java", "spring"));
+
+    private final CvMasterStoreService cvMasterStoreService = mock(CvMasterStoreService.class);
+    private final CvMatchingService matchingService = mock(CvMatchingService.class);
+    private final JobPostingNormalizedRepository jobRepository = mock(JobPostingNormalizedRepository.class);
+    private final JobProfileCache jobProfileCache = mock(JobProfileCache.class);
+    private final CvTextIndex cvTextIndex = mock(CvTextIndex.class);
+    private final CvTextIndex.CandidateScorer textScorer = mock(CvTextIndex.CandidateScorer.class);
+    private final CvMasterEntity cvMaster = new CvMasterEntity();
+    private ExecutorService pool;
+    private long brokenJobPostingId = -1L;
+
+    @BeforeEach
+    void setUp() {
+        cvMaster.setId(1L);
+        when(cvMasterStoreService.findEntity(1L)).thenReturn(Optional.of(cvMaster));
+        when(matchingService.loadProfile(cvMaster)).thenReturn(MatchProfile.of(cv("java", "spring")));
+        when(textScorer.score(any(), any())).thenReturn(Optional.of(0.5));
+        when(cvTextIndex.scorer(1L)).thenReturn(textScorer);
+        when(jobProfileCache.get(any())).thenAnswer(invocation -> {
+            JobPostingNormalized posting = invocation.getArgument(0);
+            if (posting.getId() == brokenJobPostingId) {
+                throw new IllegalStateException("broken posting");
+            }
+            return JobProfile.of(job(REQUIREMENTS.get(posting.getId())));
+        });
+        when(jobRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            List<JobPostingNormalized> page = new ArrayList<>();
+            for (long id = afterId + 1; id <= REQUIREMENTS.size() && page.size() < pageable.getPageSize(); id++) {
+                page.add(posting(id));
+            }
+            return page;
+        });
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void keepsTheBestKAcrossPagesAndBreaksTiesByLowerJobId() {
+        CvTopMatchService service = new CvTopMatchService(cvMasterStoreService, matchingService, jobRepository,
+                jobProfileCache, cvTextIndex, pool::execute, new SimpleMeterRegistry(), 2, 2, 200);
+
+        CvTopMatchService.TopMatchResult result = service.topMatches(1L, new Options(), 3).orElseThrow();
+
+        assertEquals(7, result.getScannedJobs());
+        assertEquals(0, result.getFailed());
+        assertEquals(List.of(2L, 4L, 7L), result.getMatches().stream()
+                .map(CvTopMatchService.TopMatch::getJobPostingId)
+                .toList());
+        assertEquals(result.getMatches().get(0).getScore(), result.getMatches().get(2).getScore());
+        verify(cvTextIndex).scorer(1L);
+        verify(textScorer).close();
+    }
+
+    @Test
+    void countsFailedJobsWithoutDroppingTheRest() {
+        brokenJobPostingId = 2L;
+        CvTopMatchService service = new CvTopMatchService(cvMasterStoreService, matchingService, jobRepository,
+                jobProfileCache, cvTextIndex, pool::execute, new SimpleMeterRegistry(), 3, 2, 200);
+
+        CvTopMatchService.TopMatchResult result = service.topMatches(1L, new Options(), 2).orElseThrow();
+
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of(4L, 7L), result.getMatches().stream()
+                .map(CvTopMatchService.TopMatch::getJobPostingId)
+                .toList());
+    }
+
+    private static CvMaster cv(String... skills) {
+        List<CvMaster.Skill> cvSkills = new ArrayList<>();
+        for (String name : skills) {
+            CvMaster.Skill skill = new CvMaster.Skill();
+            skill.setName(name);
+            cvSkills.add(skill);
+        }
+        CvMaster cv = new CvMaster();
+        cv.setSkills(cvSkills);
+        return cv;
+    }
+
+    private static Job job(List<String> mustHave) {
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setMustHaveSkills(mustHave);
+        Job job = new Job();
+        job.setTitle("Engineer");
+        job.setRequirements(requirements);
+        return job;
+    }
+
+    private static JobPostingNormalized posting(long id) {
+        JobPostingNormalized posting = new JobPostingNormalized();
+        posting.setId(id);
+        return posting;
+    }
+}
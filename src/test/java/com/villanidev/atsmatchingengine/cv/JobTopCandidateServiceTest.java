@@ -0,0 +1,144 @@
+package com.villanidev.atsmatchingengine.cv;
+
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.matching.index.CvSkillIndex;
+import com.villanidev.atsmatchingengine.matching.index.CvTextIndex;
+import com.villanidev.atsmatchingengine.matching.profile.CvProfileStore;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfile;
+import com.villanidev.atsmatchingengine.matching.profile.JobProfileCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.lucene.search.Query;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobTopCandidateServiceTest {
+
+    private final CvMasterStoreService cvMasterStoreService = mock(CvMasterStoreService.class);
+    private final JobPostingNormalizedRepository jobRepository = mock(JobPostingNormalizedRepository.class);
+    private final JobProfileCache jobProfileCache = mock(JobProfileCache.class);
+    private final CvTextIndex cvTextIndex = mock(CvTextIndex.class);
+    private final CvSkillIndex cvSkillIndex = new CvSkillIndex();
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        JobPostingNormalized posting = new JobPostingNormalized();
+        posting.setId(10L);
+        when(jobRepository.findById(10L)).thenReturn(Optional.of(posting));
+        when(jobProfileCache.get(posting)).thenReturn(JobProfile.of(job("java", "spring")));
+        when(cvTextIndex.scoreAll((Query) any(), any())).thenReturn(Map.of());
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void ranksResidentProfilesAndBreaksTiesByLowerCvId() {
+        CvProfileStore store = new CvProfileStore(100);
+        index(store, 1L, "cobol");
+        index(store, 2L, "java", "spring");
+        index(store, 3L, "java");
+        index(store, 4L, "java", "spring");
+        index(store, 5L, "java", "spring");
+        when(cvMasterStoreService.listIds()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+
+        JobTopCandidateService.TopCandidateResult result = service(store).topCandidates(10L, new Options(), 2, false)
+                .orElseThrow();
+
+        assertEquals(5, result.getScannedCvs());
+        assertEquals(List.of(2L, 4L), result.getCandidates().stream()
+                .map(JobTopCandidateService.TopCandidate::getCvMasterId)
+                .toList());
+    }
+
+    @Test
+    void loadsCvsOutsideTheStoreAndReportsTheOnesItCouldNotRank() {
+        CvProfileStore store = new CvProfileStore(2);
+        index(store, 1L, "java", "spring");
+        index(store, 2L, "java");
+        // Over the store's cap: still a prefilter hit in the skill index, scored from storage instead.
+        index(store, 3L, "java", "spring");
+        // Indexed but gone from storage by the time it is loaded.
+        index(store, 4L, "java", "spring");
+        store.remove(2L);
+        Map<Long, CvMaster> stored = Map.of(2L, cv("java"), 3L, cv("java", "spring"));
+        when(cvMasterStoreService.loadCvMasters(any())).thenAnswer(invocation -> {
+            Map<Long, CvMaster> loaded = new HashMap<>();
+            for (Long id : invocation.<Collection<Long>>getArgument(0)) {
+                if (stored.containsKey(id)) {
+                    loaded.put(id, stored.get(id));
+                }
+            }
+            return loaded;
+        });
+
+        JobTopCandidateService.TopCandidateResult result = service(store).topCandidates(10L, new Options(), 5, true)
+                .orElseThrow();
+
+        assertEquals(3, result.getScannedCvs());
+        assertEquals(0, result.getFailed());
+        assertEquals(1, result.getUnrankedCvs());
+        assertTrue(result.isTruncated());
+        assertEquals(List.of(1L, 3L, 2L), result.getCandidates().stream()
+                .map(JobTopCandidateService.TopCandidate::getCvMasterId)
+                .toList());
+        assertEquals(2, store.size(), "an on-demand load refills the slot freed by remove()");
+    }
+
+    private JobTopCandidateService service(CvProfileStore store) {
+        return new JobTopCandidateService(cvMasterStoreService, jobRepository, jobProfileCache, store, cvSkillIndex, cvTextIndex,
+                pool::execute, new SimpleMeterRegistry(), 0, 2, 200);
+    }
+
+    private void index(CvProfileStore store, Long cvMasterId, String... skills) {
+        CvMaster cv = cv(skills);
+        store.index(cvMasterId, cv);
+        cvSkillIndex.index(cvMasterId, cv);
+    }
+
+    private static CvMaster cv(String... skills) {
+        List<CvMaster.Skill> cvSkills = new ArrayList<>();
+        for (String name : skills) {
+            CvMaster.Skill skill = new CvMaster.Skill();
+            skill.setName(name);
+            cvSkills.add(skill);
+        }
+        CvMaster cv = new CvMaster();
+        cv.setSkills(cvSkills);
+        return cv;
+    }
+
+    private static Job job(String... mustHave) {
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setMustHaveSkills(List.of(mustHave));
+        Job job = new Job();
+        job.setId("10");
+        job.setTitle("Engineer");
+        job.setRequirements(requirements);
+        return job;
+    }
+}
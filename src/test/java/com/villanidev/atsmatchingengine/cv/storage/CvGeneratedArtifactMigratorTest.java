@@ -0,0 +1,64 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CvGeneratedArtifactMigratorTest {
+
+    @TempDir
+    Path directory;
+
+    private final CvGeneratedRepository repository = mock(CvGeneratedRepository.class);
+    private final CvGeneratedStoreService storeService = mock(CvGeneratedStoreService.class);
+
+    @Test
+    void scansUntilOnePassCompletesThenSkipsOnLaterStartups() {
+        FileArtifactStore artifactStore = new FileArtifactStore(directory.toString());
+        when(repository.findWithInlineDocumentsAfter(anyLong(), any())).thenReturn(List.of());
+
+        new CvGeneratedArtifactMigrator(repository, storeService, artifactStore, Runnable::run, true).run(null);
+        new CvGeneratedArtifactMigrator(repository, storeService, artifactStore, Runnable::run, true).run(null);
+
+        assertTrue(artifactStore.hasMarker(CvGeneratedArtifactMigrator.DONE_MARKER));
+        verify(repository, times(1)).findWithInlineDocumentsAfter(anyLong(), any());
+    }
+
+    @Test
+    void doesNotRecordCompletionWhileRowsStillFail() {
+        FileArtifactStore artifactStore = new FileArtifactStore(directory.toString());
+        CvGeneratedEntity broken = new CvGeneratedEntity();
+        broken.setId(1L);
+        when(repository.findWithInlineDocumentsAfter(0L, PageRequest.of(0, 100)))
+                .thenReturn(List.of(broken));
+        when(repository.findWithInlineDocumentsAfter(1L, PageRequest.of(0, 100)))
+                .thenReturn(List.of());
+        when(storeService.readPayload(broken)).thenThrow(new IllegalStateException("Failed to deserialize CvGenerated"));
+
+        new CvGeneratedArtifactMigrator(repository, storeService, artifactStore, Runnable::run, true).run(null);
+
+        assertFalse(artifactStore.hasMarker(CvGeneratedArtifactMigrator.DONE_MARKER));
+    }
+
+    @Test
+    void staysIdleWhenDisabled() {
+        FileArtifactStore artifactStore = new FileArtifactStore(directory.toString());
+
+        new CvGeneratedArtifactMigrator(repository, storeService, artifactStore, Runnable::run, false).run(null);
+
+        verify(repository, never()).findWithInlineDocumentsAfter(anyLong(), any());
+    }
+}
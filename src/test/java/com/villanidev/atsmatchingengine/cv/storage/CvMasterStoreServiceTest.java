@@ -0,0 +1,48 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CvMasterStoreServiceTest {
+
+    private final CvMasterRepository repository = mock(CvMasterRepository.class);
+    private final CvMasterIndex skillIndex = mock(CvMasterIndex.class);
+    private final CvMasterIndex textIndex = mock(CvMasterIndex.class);
+    private final CvMasterStoreService storeService =
+            new CvMasterStoreService(repository, new ObjectMapper(), List.of(skillIndex, textIndex));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void taxonomyRebuildSkipsIndexesThatDoNotDependOnIt() {
+        when(repository.findAll()).thenReturn(List.of(entity(1L, "{\"name\":\"Ana\"}"), entity(2L, "not json")));
+        when(skillIndex.dependsOnTaxonomy()).thenReturn(true);
+        when(textIndex.dependsOnTaxonomy()).thenReturn(false);
+
+        assertEquals(1, storeService.rebuildTaxonomyIndexes());
+        ArgumentCaptor<Map<Long, CvMaster>> indexed = ArgumentCaptor.forClass(Map.class);
+        verify(skillIndex).indexAll(indexed.capture());
+        assertEquals("Ana", indexed.getValue().get(1L).getName());
+        verify(textIndex, never()).indexAll(anyMap());
+        verify(textIndex, never()).index(any(), any());
+    }
+
+    private static CvMasterEntity entity(Long id, String payload) {
+        CvMasterEntity entity = new CvMasterEntity();
+        entity.setId(id);
+        entity.setPayloadJson(payload);
+        return entity;
+    }
+}
@@ -0,0 +1,57 @@
+package com.villanidev.atsmatchingengine.cv.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileArtifactStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storesIdenticalContentOnceUnderItsHash() throws Exception {
+        FileArtifactStore store = new FileArtifactStore(directory.toString());
+        byte[] content = "%PDF-1.4 cv".getBytes();
+
+        String first = store.put(content);
+        String second = store.put(content.clone());
+
+        assertEquals(first, second);
+        assertEquals(64, first.length());
+        Path stored = store.find(first).orElseThrow();
+        assertArrayEquals(content, Files.readAllBytes(stored));
+        try (var files = Files.walk(directory)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+        assertTrue(store.find("../../etc/passwd").isEmpty());
+    }
+
+    @Test
+    void deletesOnlyUnreferencedArtifactsOlderThanTheCutoff() throws Exception {
+        FileArtifactStore store = new FileArtifactStore(directory.toString());
+        String referenced = store.put("referenced".getBytes());
+        String orphan = store.put("orphan".getBytes());
+        String fresh = store.put("fresh".getBytes());
+        Instant old = Instant.now().minus(Duration.ofHours(2));
+        Files.setLastModifiedTime(store.find(referenced).orElseThrow(), FileTime.from(old));
+        Files.setLastModifiedTime(store.find(orphan).orElseThrow(), FileTime.from(old));
+
+        int deleted = store.deleteUnreferenced(Set.of(referenced), Instant.now().minus(Duration.ofHours(1)));
+
+        assertEquals(1, deleted);
+        assertTrue(store.find(referenced).isPresent());
+        assertTrue(store.find(orphan).isEmpty());
+        assertTrue(store.find(fresh).isPresent());
+    }
+}
@@ -0,0 +1,103 @@
+package com.villanidev.atsmatchingengine.elt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.villanidev.atsmatchingengine.cv.CvAutoMatchingService;
+import com.villanidev.atsmatchingengine.cv.storage.CvMasterStoreService;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingRaw;
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecution;
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecutionItem;
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecutionService;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingNormalizedRepository;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingRawBulkWriter;
+import com.villanidev.atsmatchingengine.elt.repository.JobPostingRawRepository;
+import com.villanidev.atsmatchingengine.elt.scraping.JobPortalScraper;
+import com.villanidev.atsmatchingengine.elt.scraping.JobPortalScraperRegistry;
+import com.villanidev.atsmatchingengine.elt.scraping.PortalConfig;
+import com.villanidev.atsmatchingengine.elt.scraping.PortalConfigRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EltPipelineServiceTest {
+
+    private final JobPostingRawRepository rawRepository = mock(JobPostingRawRepository.class);
+    private final JobPostingRawBulkWriter rawBulkWriter = mock(JobPostingRawBulkWriter.class);
+    private final JobPostingNormalizedRepository normalizedRepository = mock(JobPostingNormalizedRepository.class);
+    private final JobNormalizationService normalizationService = mock(JobNormalizationService.class);
+    private final JobPortalScraper scraper = mock(JobPortalScraper.class);
+    private final PortalConfigRepository portalConfigRepository = mock(PortalConfigRepository.class);
+    private final EltExecutionService executionService = mock(EltExecutionService.class);
+    private final CvAutoMatchingService autoMatchingService = mock(CvAutoMatchingService.class);
+    private final CvMasterStoreService cvMasterStoreService = mock(CvMasterStoreService.class);
+    private final List<String> reported = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        EltExecution execution = new EltExecution();
+        execution.setId(1L);
+        when(executionService.startExecution(anyString(), anyString())).thenReturn(execution);
+        when(executionService.startItem(any(), anyString())).thenReturn(new EltExecutionItem());
+
+        PortalConfig config = new PortalConfig();
+        config.setPortalId("greenhouse");
+        config.setEnabled(true);
+        when(portalConfigRepository.findByEnabledTrue()).thenReturn(List.of(config));
+        when(scraper.getPortalId()).thenReturn("greenhouse");
+        when(scraper.scrape(config)).thenReturn(List.of(raw("1"), raw("2"), raw("3")));
+
+        JobPostingRawBulkWriter.LoadResult loadResult = mock(JobPostingRawBulkWriter.LoadResult.class);
+        when(loadResult.getInserted()).thenReturn(2);
+        when(loadResult.getChanged()).thenReturn(0);
+        when(rawBulkWriter.load(anyList())).thenReturn(loadResult);
+
+        when(rawRepository.findByNormalizedFalse()).thenReturn(List.of(raw("1"), raw("2")));
+        when(normalizationService.normalize(any())).thenReturn(Optional.of(new JobPostingNormalized()));
+
+        when(cvMasterStoreService.listIds()).thenReturn(List.of(10L));
+        when(autoMatchingService.matchAll(anyList(), any(), anyInt(), any()))
+                .thenReturn(new CvAutoMatchingService.AutoMatchResult(1, 2, 4, 0, 0, 0));
+    }
+
+    @Test
+    void reportsEachStageOnceWithItsItemCount() {
+        service(true).runScheduled();
+
+        assertEquals(List.of("EXTRACT=3", "LOAD=2", "NORMALIZE=2", "MATCH=4"), reported);
+    }
+
+    @Test
+    void skipsTheMatchStageWhenAutoMatchingIsDisabled() {
+        service(false).runScheduled();
+
+        assertEquals(List.of("EXTRACT=3", "LOAD=2", "NORMALIZE=2"), reported);
+    }
+
+    private EltPipelineService service(boolean autoMatchingEnabled) {
+        EltStageListener listener = (execution, stage, items, duration) -> reported.add(stage + "=" + items);
+        return new EltPipelineService(rawRepository, rawBulkWriter, new RawContentHasher(new ObjectMapper()),
+                normalizedRepository, normalizationService, new JobPortalScraperRegistry(List.of(scraper)),
+                portalConfigRepository, Runnable::run, executionService, autoMatchingService, cvMasterStoreService,
+                List.of(listener), new SimpleMeterRegistry(), autoMatchingEnabled, 200);
+    }
+
+    private static JobPostingRaw raw(String externalId) {
+        JobPostingRaw raw = new JobPostingRaw();
+        raw.setSource("greenhouse");
+        raw.setExternalId(externalId);
+        raw.setRawContent("{\"id\":\"" + externalId + "\"}");
+        return raw;
+    }
+}
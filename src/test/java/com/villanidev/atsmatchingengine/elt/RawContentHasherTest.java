@@ -0,0 +1,22 @@
+package com.villanidev.atsmatchingengine.elt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class RawContentHasherTest {
+
+    private final RawContentHasher hasher = new RawContentHasher(new ObjectMapper());
+
+    @Test
+    void ignoresKeyOrderAndWhitespaceButNotValues() {
+        String hash = hasher.hash("{\"id\": 1, \"content\": {\"b\": \"x\", \"a\": [1, 2]}}");
+
+        assertEquals(hash, hasher.hash("{\"content\":{\"a\":[1,2],\"b\":\"x\"},\"id\":1}"));
+        assertNotEquals(hash, hasher.hash("{\"content\":{\"a\":[2,1],\"b\":\"x\"},\"id\":1}"));
+        assertEquals(64, hash.length());
+        assertEquals(hasher.hash("not json"), hasher.hash("not json"));
+    }
+}
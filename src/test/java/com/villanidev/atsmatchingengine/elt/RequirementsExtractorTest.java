@@ -0,0 +1,51 @@
+package com.villanidev.atsmatchingengine.elt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequirementsExtractorTest {
+
+    private final RequirementsExtractor extractor = new RequirementsExtractor(
+            new DefaultResourceLoader(),
+            new ObjectMapper(),
+            new SkillTaxonomyService(new DefaultResourceLoader(), new ObjectMapper(), event -> { },
+                    "classpath:skill-taxonomy.json"),
+            "classpath:requirements-dictionary.json"
+    );
+
+    @Test
+    void extractsAllCategoriesInOnePass() {
+        RequirementsExtractionResult result = extractor.extractAll(
+                "Senior Java engineer (Spring Boot, Node.js) for a Fintech SaaS. Docker/Kubernetes, Scrum team.");
+
+        assertEquals(List.of("java", "spring", "spring boot", "node.js", "docker", "kubernetes"), result.getSkills());
+        assertEquals(List.of("docker", "kubernetes"), result.getTools());
+        assertEquals(List.of("fintech", "saas"), result.getDomains());
+        assertEquals(List.of("scrum"), result.getMethodologies());
+    }
+
+    @Test
+    void ignoresKeywordsInsideLongerWords() {
+        RequirementsExtractionResult result = extractor.extractAll(
+                "Good communication and genuine interest in JavaScript; no Golang needed");
+
+        assertEquals(List.of("javascript", "go"), result.getSkills());
+        assertTrue(result.getTools().isEmpty());
+    }
+
+    @Test
+    void reportsAliasesUnderCanonicalTaxonomyIds() {
+        RequirementsExtractionResult result = extractor.extractAll("Postgres, K8s and NodeJS on an ecommerce platform");
+
+        assertEquals(List.of("postgresql", "kubernetes", "node.js"), result.getSkills());
+        assertEquals(List.of("kubernetes"), result.getTools());
+        assertEquals(List.of("e-commerce"), result.getDomains());
+    }
+}
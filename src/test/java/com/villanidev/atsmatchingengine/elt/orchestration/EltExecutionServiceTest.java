@@ -0,0 +1,54 @@
+package com.villanidev.atsmatchingengine.elt.orchestration;
+
+import com.villanidev.atsmatchingengine.elt.EltStage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The tsvector domain lets H2 create job_posting_normalized, whose search column is PostgreSQL-only.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:elt-execution;INIT=CREATE DOMAIN IF NOT EXISTS TSVECTOR AS VARCHAR",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EltExecutionServiceTest {
+
+    @Autowired
+    private EltExecutionRepository executionRepository;
+
+    @Autowired
+    private EltExecutionItemRepository itemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void stageColumnsSurviveLaterCountAndStatusSaves() {
+        EltExecutionService service = new EltExecutionService(executionRepository, itemRepository);
+        EltExecution execution = service.startExecution("ON_DEMAND", "ALL");
+        entityManager.detach(execution);
+
+        service.onStageCompleted(execution, EltStage.LOAD, 40, Duration.ofSeconds(2));
+        service.updateCounts(execution, 50, null, null);
+        service.onStageCompleted(execution, EltStage.NORMALIZE, 30, Duration.ofSeconds(3));
+        service.finishExecution(execution, EltExecutionStatus.SUCCESS, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        EltExecution stored = executionRepository.findById(execution.getId()).orElseThrow();
+        assertEquals(EltExecutionStatus.SUCCESS, stored.getStatus());
+        assertEquals(50, stored.getExtractedCount());
+        assertEquals(40, stored.getLoadedCount());
+        assertEquals(2000L, stored.getLoadDurationMs());
+        assertEquals(20.0, stored.getLoadRowsPerSecond(), 1e-9);
+        assertEquals(3000L, stored.getNormalizeDurationMs());
+    }
+}
@@ -0,0 +1,137 @@
+package com.villanidev.atsmatchingengine.elt.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.villanidev.atsmatchingengine.elt.RawContentHasher;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingRaw;
+import com.villanidev.atsmatchingengine.shared.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobPostingRawBulkWriterTest {
+
+    private final RawContentHasher hasher = new RawContentHasher(new ObjectMapper());
+    private JdbcTemplate jdbcTemplate;
+    private JobPostingRawBulkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bulk-writer;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS job_posting_raw");
+        jdbcTemplate.execute("CREATE TABLE job_posting_raw ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "source VARCHAR(255) NOT NULL, external_id VARCHAR(255), url VARCHAR(255), "
+                + "raw_content TEXT, content_hash VARCHAR(64), fetched_at TIMESTAMP, last_seen_at TIMESTAMP, normalized BOOLEAN NOT NULL, normalized_at TIMESTAMP, "
+                + "CONSTRAINT uk_job_posting_raw_source_external_id UNIQUE (source, external_id), "
+                + "CONSTRAINT uk_job_posting_raw_url UNIQUE (url))");
+        writer = new JobPostingRawBulkWriter(jdbcTemplate, new DatabaseDialect(dataSource), hasher,
+                new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    void insertsOnlyPostingsNotSeenByKeyOrUrl() {
+        JobPostingRawBulkWriter.LoadResult first = writer.load(List.of(
+                raw("greenhouse", "1", "https://a/1", "h1"),
+                raw("greenhouse", "1", "https://a/1-copy", "h1"),
+                raw("greenhouse", "2", "https://a/2", "h2"),
+                raw("ashby", null, "https://b/1", "h3"),
+                raw("ashby", "", null, "h4")));
+
+        JobPostingRawBulkWriter.LoadResult second = writer.load(List.of(
+                raw("greenhouse", "2", "https://a/2-moved", "h2"),
+                raw("breezy", "9", "https://b/1", "h3"),
+                raw("breezy", "10", "https://c/10", "h5")));
+
+        assertEquals(4, first.getInserted());
+        assertEquals(1, second.getInserted());
+        assertEquals(2, second.getUnchanged());
+        assertEquals(5, count("SELECT COUNT(*) FROM job_posting_raw"));
+        assertEquals(0, count("SELECT COUNT(*) FROM job_posting_raw "
+                + "WHERE normalized OR fetched_at IS NULL OR last_seen_at IS NULL"));
+        assertEquals(1, count("SELECT COUNT(*) FROM job_posting_raw WHERE external_id = '2' AND url = 'https://a/2'"));
+    }
+
+    @Test
+    void skipsUrlMatchesThatBelongToAnotherPosting() {
+        writer.load(List.of(raw("greenhouse", "1", "https://a/1", "h1")));
+
+        JobPostingRawBulkWriter.LoadResult result = writer.load(List.of(
+                raw("breezy", "5", "https://a/1", "h9"),
+                raw("greenhouse", "3", "https://a/3", "h3")));
+
+        assertEquals(1, result.getConflicts());
+        assertEquals(1, result.getInserted());
+        assertEquals(0, result.getChanged());
+        assertEquals(1, count("SELECT COUNT(*) FROM job_posting_raw WHERE url = 'https://a/1' "
+                + "AND source = 'greenhouse' AND content_hash = 'h1'"));
+    }
+
+    @Test
+    void backfillsTheHashOnlyWhenTheStoredContentIsUnchanged() {
+        jdbcTemplate.update("INSERT INTO job_posting_raw (source, external_id, url, raw_content, normalized) "
+                + "VALUES ('greenhouse', '1', 'https://a/1', '{\"b\": 1, \"a\": 2}', TRUE), "
+                + "('greenhouse', '2', 'https://a/2', '{\"v\":\"old\"}', TRUE)");
+
+        JobPostingRawBulkWriter.LoadResult result = writer.load(List.of(
+                hashed("greenhouse", "1", "https://a/1", "{\"a\":2,\"b\":1}"),
+                hashed("greenhouse", "2", "https://a/2", "{\"v\":\"new\"}")));
+
+        assertEquals(1, result.getUnchanged());
+        assertEquals(1, result.getChanged());
+        assertEquals(0, count("SELECT COUNT(*) FROM job_posting_raw WHERE content_hash IS NULL"));
+        assertEquals(1, count("SELECT COUNT(*) FROM job_posting_raw WHERE external_id = '1' AND normalized"));
+        assertEquals(1, count("SELECT COUNT(*) FROM job_posting_raw "
+                + "WHERE external_id = '2' AND NOT normalized AND raw_content = '{\"v\":\"new\"}'"));
+    }
+
+    @Test
+    void resetsOnlyPostingsWhoseContentHashChanged() {
+        writer.load(List.of(
+                raw("greenhouse", "1", "https://a/1", "h1"),
+                raw("greenhouse", "2", "https://a/2", "h2"),
+                raw("ashby", null, "https://b/1", "h3")));
+        jdbcTemplate.update("UPDATE job_posting_raw SET normalized = TRUE");
+
+        JobPostingRawBulkWriter.LoadResult result = writer.load(List.of(
+                raw("greenhouse", "1", "https://a/1", "h1"),
+                raw("greenhouse", "2", "https://a/2", "h2-edited"),
+                raw("ashby", null, "https://b/1", "h3"),
+                raw("ashby", "7", "https://b/7", "h7")));
+
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getChanged());
+        assertEquals(2, result.getUnchanged());
+        assertEquals(2, count("SELECT COUNT(*) FROM job_posting_raw WHERE NOT normalized"));
+        assertEquals(1, count("SELECT COUNT(*) FROM job_posting_raw "
+                + "WHERE external_id = '2' AND content_hash = 'h2-edited' AND raw_content = '{\"v\":\"h2-edited\"}'"));
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    private JobPostingRaw raw(String source, String externalId, String url, String contentHash) {
+        JobPostingRaw raw = new JobPostingRaw();
+        raw.setSource(source);
+        raw.setExternalId(externalId);
+        raw.setUrl(url);
+        raw.setRawContent("{\"v\":\"" + contentHash + "\"}");
+        raw.setContentHash(contentHash);
+        return raw;
+    }
+
+    private JobPostingRaw hashed(String source, String externalId, String url, String rawContent) {
+        JobPostingRaw raw = raw(source, externalId, url, null);
+        raw.setRawContent(rawContent);
+        raw.setContentHash(hasher.hash(rawContent));
+        return raw;
+    }
+}
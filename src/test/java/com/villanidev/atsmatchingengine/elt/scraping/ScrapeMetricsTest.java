@@ -0,0 +1,37 @@
+package com.villanidev.atsmatchingengine.elt.scraping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScrapeMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsRequestsAndRetriesOnTheInjectedRegistry() throws Exception {
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.send(any(), any())).thenThrow(new IOException("connection refused"));
+        GreenhousePortalScraper scraper = new GreenhousePortalScraper(new ObjectMapper(), "http://localhost", registry);
+        ScrapeMetrics metrics = new ScrapeMetrics(registry, scraper.getPortalId());
+
+        assertThrows(IOException.class,
+                () -> metrics.send(httpClient, HttpRequest.newBuilder(URI.create("http://localhost/jobs")).build()));
+        scraper.onRetry(new IOException("connection refused"), 1, 2);
+
+        assertEquals(1, registry.get("elt.scrape.http").tag("portal", "greenhouse").tag("outcome", "error")
+                .timer().count());
+        assertEquals(1.0, registry.get("elt.scrape.retries").tag("portal", "greenhouse").counter().count());
+    }
+}
@@ -1,18 +1,28 @@
 package com.villanidev.atsmatchingengine.matching;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.villanidev.atsmatchingengine.domain.CvGenerated;
 import com.villanidev.atsmatchingengine.domain.CvMaster;
 import com.villanidev.atsmatchingengine.domain.Job;
 import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import com.villanidev.atsmatchingengine.matching.scoring.MatchingScoringService;
+import com.villanidev.atsmatchingengine.matching.sections.CvSectionsBuilder;
+import com.villanidev.atsmatchingengine.rendering.OutputRenderer;
+import com.villanidev.atsmatchingengine.templates.TemplateRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class MatchingEngineTest {
 
-    private final MatchingEngine matchingEngine = new MatchingEngine();
+    private final MatchingEngine matchingEngine = new MatchingEngine(new TemplateRegistry(null), null,
+            new SimpleMeterRegistry());
 
     @Test
     void testGenerateCvWithBasicMatch() {
@@ -156,4 +166,70 @@ class MatchingEngineTest {
         assertTrue(result.getMeta().getMatchingScoreOverall() >= 0.0);
         assertTrue(result.getMeta().getMatchingScoreOverall() <= 1.0);
     }
+
+    @Test
+    void testConcurrentSectionsMatchSequentialSections() throws Exception {
+        // Arrange
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setName("Ana Lima");
+        cvMaster.setTitle("Backend Engineer");
+        cvMaster.setSummary(List.of("Backend engineer focused on payments"));
+        cvMaster.setSkills(List.of(skill("Java"), skill("Kafka"), skill("Docker")));
+        cvMaster.setDomains(List.of("Finance"));
+        cvMaster.setExperiences(List.of(
+                experience("Pay Co", "Backend Engineer", "2021-03", "present", "Java", "Kafka"),
+                experience("Shop Co", "Developer", "2017-01", "2021-02", "PHP"),
+                experience("Bank Co", "Engineer", "2014-05", "2016-12", "Java", "Docker")));
+
+        Job job = new Job();
+        job.setId("job-789");
+        job.setTitle("Payments Engineer");
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setYearsOfExperience(4);
+        requirements.setMustHaveSkills(List.of("Java", "Kafka"));
+        requirements.setNiceToHaveSkills(List.of("Docker"));
+        requirements.setDomains(List.of("Finance"));
+        job.setRequirements(requirements);
+
+        Options options = new Options();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            MatchingEngine engine = new MatchingEngine(new MatchingScoringService(), new CvSectionsBuilder(),
+                    new OutputRenderer(new TemplateRegistry(null), new SimpleMeterRegistry()), executor);
+            MatchProfile profile = MatchProfile.of(cvMaster);
+
+            // Act
+            CvGenerated sequential = engine.buildSections(profile, job, options, null, false);
+            CvGenerated concurrent = engine.buildSections(profile, job, options, null, true);
+
+            // Assert
+            assertEquals(3, sequential.getExperienceSection().size());
+            assertEquals(objectMapper.writeValueAsString(sequential), objectMapper.writeValueAsString(concurrent));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static CvMaster.Skill skill(String name) {
+        CvMaster.Skill skill = new CvMaster.Skill();
+        skill.setName(name);
+        return skill;
+    }
+
+    private static CvMaster.Experience experience(String company, String title, String start, String end,
+                                                  String... techStack) {
+        CvMaster.Project project = new CvMaster.Project();
+        project.setName(company + " platform");
+        project.setActions(List.of("Built services"));
+        project.setTechStack(List.of(techStack));
+
+        CvMaster.Experience experience = new CvMaster.Experience();
+        experience.setCompany(company);
+        experience.setTitle(title);
+        experience.setStart(start);
+        experience.setEnd(end);
+        experience.setProjects(List.of(project));
+        return experience;
+    }
 }
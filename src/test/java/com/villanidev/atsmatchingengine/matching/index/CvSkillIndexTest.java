@@ -0,0 +1,69 @@
+package com.villanidev.atsmatchingengine.matching.index;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CvSkillIndexTest {
+
+    @Test
+    void findsCandidatesCoveringMustHaveSkills() {
+        CvSkillIndex index = new CvSkillIndex();
+        index.index(10L, cv(List.of("Java", "Spring Boot"), List.of("Kafka")));
+        index.index(20L, cv(List.of("Python"), List.of("Django")));
+        index.index(30L, cv(List.of("java"), List.of()));
+
+        Job job = job(List.of("Java", "Kafka"));
+
+        assertArrayEquals(new long[] {10L, 30L}, index.findCandidates(job, 1));
+        assertArrayEquals(new long[] {10L}, index.findCandidates(job, 2));
+        assertArrayEquals(new long[] {10L, 20L, 30L}, index.findCandidates(job(List.of()), 1));
+        assertTrue(index.coversMustHaveSkills(30L, job, 1));
+        assertFalse(index.coversMustHaveSkills(20L, job, 1));
+    }
+
+    @Test
+    void reindexAndRemoveUpdatePostings() {
+        CvSkillIndex index = new CvSkillIndex();
+        index.index(10L, cv(List.of("Java"), List.of()));
+        index.index(10L, cv(List.of("Go"), List.of()));
+        index.index(20L, cv(List.of("Java"), List.of()));
+
+        assertArrayEquals(new long[] {20L}, index.findCandidates(job(List.of("java")), 1));
+
+        index.remove(20L);
+        index.index(30L, cv(List.of("Java"), List.of()));
+
+        assertArrayEquals(new long[] {30L}, index.findCandidates(job(List.of("java")), 1));
+        assertArrayEquals(new long[] {10L}, index.findCandidates(job(List.of("go")), 1));
+    }
+
+    private CvMaster cv(List<String> skills, List<String> techStack) {
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setSkills(skills.stream().map(name -> {
+            CvMaster.Skill skill = new CvMaster.Skill();
+            skill.setName(name);
+            return skill;
+        }).toList());
+        CvMaster.Project project = new CvMaster.Project();
+        project.setTechStack(techStack);
+        CvMaster.Experience experience = new CvMaster.Experience();
+        experience.setProjects(List.of(project));
+        cvMaster.setExperiences(List.of(experience));
+        return cvMaster;
+    }
+
+    private Job job(List<String> mustHave) {
+        Job job = new Job();
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setMustHaveSkills(mustHave);
+        job.setRequirements(requirements);
+        return job;
+    }
+}
@@ -0,0 +1,105 @@
+package com.villanidev.atsmatchingengine.matching.index;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.domain.TextRelevanceStrategy;
+import com.villanidev.atsmatchingengine.matching.scoring.TextRelevanceScorer;
+import org.apache.lucene.search.Query;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CvTextIndexTest {
+
+    @Test
+    void scoresAllIndexedCvsInOneQuery() throws Exception {
+        CvTextIndex index = new CvTextIndex();
+        index.index(1L, cv("Backend engineer with Java and Spring Boot experience"));
+        index.index(2L, cv("Frontend developer focused on React and CSS"));
+
+        Map<Long, Double> scores = index.scoreAll(sampleJob(), TextRelevanceStrategy.BM25);
+
+        assertTrue(scores.get(1L) > scores.getOrDefault(2L, 0.0), "Java CV should outrank the frontend CV");
+        assertEquals(scores.get(1L), index.score(1L, sampleJob(), TextRelevanceStrategy.BM25).orElseThrow(), 1e-9);
+        index.close();
+    }
+
+    @Test
+    void updatesAndRemovesDocumentsIncrementally() throws Exception {
+        CvTextIndex index = new CvTextIndex();
+        index.index(1L, cv("Frontend developer focused on React"));
+        index.index(1L, cv("Backend engineer with Java"));
+
+        assertEquals(1, index.size());
+        assertTrue(index.score(1L, sampleJob(), TextRelevanceStrategy.TFIDF).orElseThrow() > 0.0);
+
+        index.remove(1L);
+
+        assertEquals(0, index.size());
+        assertTrue(index.score(1L, sampleJob(), TextRelevanceStrategy.BM25).isEmpty());
+        index.close();
+    }
+
+    @Test
+    void bulkLoadMakesEveryDocumentSearchableAfterOneRefresh() throws Exception {
+        CvTextIndex index = new CvTextIndex();
+        index.index(3L, cv("Frontend developer focused on React"));
+
+        index.indexAll(Map.of(
+                1L, cv("Backend engineer with Java and Spring Boot experience"),
+                2L, cv("Frontend developer focused on React and CSS"),
+                3L, cv("Java developer")));
+
+        assertEquals(3, index.size());
+        Map<Long, Double> scores = index.scoreAll(sampleJob(), TextRelevanceStrategy.BM25);
+        assertTrue(scores.containsKey(1L));
+        assertTrue(scores.containsKey(3L));
+        assertFalse(index.dependsOnTaxonomy());
+        index.close();
+    }
+
+    @Test
+    void candidateScorerKeepsItsReaderAcrossUpdatesAndMatchesScoreAll() throws Exception {
+        CvTextIndex index = new CvTextIndex();
+        index.index(1L, cv("Backend engineer with Java and Spring Boot experience"));
+        index.index(2L, cv("Frontend developer focused on React and CSS"));
+        Query jobQuery = new TextRelevanceScorer().buildJobQuery(sampleJob());
+        Map<Long, Double> scores = index.scoreAll(jobQuery, TextRelevanceStrategy.TFIDF);
+
+        try (CvTextIndex.CandidateScorer scorer = index.scorer(1L);
+             CvTextIndex.CandidateScorer missing = index.scorer(3L)) {
+            index.remove(1L);
+
+            assertEquals(scores.get(1L), scorer.score(jobQuery, TextRelevanceStrategy.TFIDF).orElseThrow(), 1e-9);
+            assertEquals(0.0, scorer.score(null, TextRelevanceStrategy.BM25).orElseThrow());
+            assertTrue(missing.score(jobQuery, TextRelevanceStrategy.BM25).isEmpty());
+        }
+        assertTrue(index.score(1L, jobQuery, TextRelevanceStrategy.TFIDF).isEmpty());
+        index.close();
+    }
+
+    private CvMaster cv(String summary) {
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setName("Jane Doe");
+        cvMaster.setEmail("jane@dev.com");
+        cvMaster.setSummary(List.of(summary));
+        return cvMaster;
+    }
+
+    private Job sampleJob() {
+        Job job = new Job();
+        job.setId("job-1");
+        job.setTitle("Backend Engineer");
+        job.setRawDescription("Looking for a Java engineer with Spring Boot experience.");
+
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setMustHaveSkills(List.of("Java", "Spring Boot"));
+        job.setRequirements(requirements);
+        return job;
+    }
+}
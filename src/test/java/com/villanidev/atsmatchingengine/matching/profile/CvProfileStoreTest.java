@@ -0,0 +1,41 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomy;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyReloadedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CvProfileStoreTest {
+
+    @Test
+    void stopsAdmittingNewCvsAtCapacityButKeepsUpdatingResidentOnes() {
+        CvProfileStore store = new CvProfileStore(2);
+
+        store.index(1L, new CvMaster());
+        store.index(2L, new CvMaster());
+        store.index(3L, new CvMaster());
+        store.index(1L, new CvMaster());
+
+        assertArrayEquals(new long[]{1L, 2L}, store.ids());
+
+        store.remove(2L);
+        store.index(3L, new CvMaster());
+
+        assertArrayEquals(new long[]{1L, 3L}, store.ids());
+    }
+
+    @Test
+    void dropsProfilesWhenTaxonomyIsReloaded() {
+        CvProfileStore store = new CvProfileStore(10);
+        store.index(1L, new CvMaster());
+
+        store.onTaxonomyReloaded(new SkillTaxonomyReloadedEvent(SkillTaxonomy.empty()));
+
+        assertEquals(0, store.size());
+        assertTrue(store.get(1L).isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.elt.model.JobPostingNormalized;
+import com.villanidev.atsmatchingengine.matching.JobPostingNormalizedMapper;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomy;
+import com.villanidev.atsmatchingengine.shared.taxonomy.SkillTaxonomyReloadedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JobProfileCacheTest {
+
+    private final AtomicInteger mappings = new AtomicInteger();
+    private final JobProfileCache cache = new JobProfileCache(new CountingMapper(), 10);
+
+    @Test
+    void reusesProfileUntilPostingIsRenormalized() {
+        LocalDateTime v1 = LocalDateTime.of(2024, 1, 1, 10, 0);
+        JobPostingNormalized posting = posting(1L, v1);
+
+        JobProfile first = cache.get(posting);
+        JobProfile second = cache.get(posting);
+        JobProfile renormalized = cache.get(posting(1L, v1.plusHours(1)));
+
+        assertSame(first, second);
+        assertNotSame(first, renormalized);
+        assertEquals(2, mappings.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void dropsProfilesWhenTaxonomyIsReloaded() {
+        JobPostingNormalized posting = posting(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+        JobProfile first = cache.get(posting);
+
+        cache.onTaxonomyReloaded(new SkillTaxonomyReloadedEvent(SkillTaxonomy.empty()));
+
+        assertNotSame(first, cache.get(posting));
+        assertEquals(2, mappings.get());
+    }
+
+    private JobPostingNormalized posting(Long id, LocalDateTime normalizedAt) {
+        JobPostingNormalized posting = new JobPostingNormalized();
+        posting.setId(id);
+        posting.setNormalizedAt(normalizedAt);
+        return posting;
+    }
+
+    private class CountingMapper extends JobPostingNormalizedMapper {
+
+        CountingMapper() {
+            super(null);
+        }
+
+        @Override
+        public Job toJob(JobPostingNormalized normalized) {
+            mappings.incrementAndGet();
+            Job job = new Job();
+            job.setId(String.valueOf(normalized.getId()));
+            job.setTitle("Backend Engineer");
+            Job.Requirements requirements = new Job.Requirements();
+            requirements.setMustHaveSkills(List.of("java"));
+            job.setRequirements(requirements);
+            return job;
+        }
+    }
+}
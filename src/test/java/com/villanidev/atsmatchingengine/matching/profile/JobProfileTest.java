@@ -0,0 +1,32 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.shared.SkillDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobProfileTest {
+
+    @Test
+    void resolvesRequirementsInternedAfterTheProfileWasBuilt() {
+        Job job = new Job();
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setMustHaveSkills(List.of("job-profile-test-skill"));
+        job.setRequirements(requirements);
+        JobProfile jobProfile = JobProfile.of(job);
+
+        assertEquals(SkillDictionary.UNKNOWN, jobProfile.getRequirementIds().getMustHaveSkillIds()[0]);
+
+        CvMaster.Skill skill = new CvMaster.Skill();
+        skill.setName("Job-Profile-Test-Skill");
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setSkills(List.of(skill));
+        MatchProfile profile = MatchProfile.of(cvMaster);
+
+        assertEquals(1, profile.countSkillMatches(jobProfile.getRequirementIds().getMustHaveSkillIds()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.villanidev.atsmatchingengine.matching.profile;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MatchProfileCacheTest {
+
+    @Test
+    void reusesProfileUntilCvVersionChanges() {
+        MatchProfileCache cache = new MatchProfileCache(10);
+        AtomicInteger loads = new AtomicInteger();
+        LocalDateTime v1 = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime v2 = v1.plusMinutes(5);
+
+        MatchProfile first = cache.get(1L, v1, () -> load(loads));
+        MatchProfile second = cache.get(1L, v1, () -> load(loads));
+        MatchProfile updated = cache.get(1L, v2, () -> load(loads));
+
+        assertSame(first, second);
+        assertNotSame(first, updated);
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondCapacity() {
+        MatchProfileCache cache = new MatchProfileCache(2);
+        AtomicInteger loads = new AtomicInteger();
+        LocalDateTime version = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+        cache.get(1L, version, () -> load(loads));
+        cache.get(2L, version, () -> load(loads));
+        cache.get(1L, version, () -> load(loads));
+        cache.get(3L, version, () -> load(loads));
+        cache.get(1L, version, () -> load(loads));
+        cache.get(2L, version, () -> load(loads));
+
+        assertEquals(2, cache.size());
+        assertEquals(4, loads.get());
+    }
+
+    private CvMaster load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        CvMaster.Skill skill = new CvMaster.Skill();
+        skill.setName("Java");
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setSkills(List.of(skill));
+        return cvMaster;
+    }
+}
@@ -0,0 +1,24 @@
+package com.villanidev.atsmatchingengine.matching.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TopKHeapTest {
+
+    @Test
+    void keepsBestKAcrossMergedHeaps() {
+        TopKHeap<Integer> left = new TopKHeap<>(3, Comparator.naturalOrder());
+        TopKHeap<Integer> right = new TopKHeap<>(3, Comparator.naturalOrder());
+        List.of(5, 1, 9, 3).forEach(left::offer);
+        List.of(7, 2, 8).forEach(right::offer);
+
+        left.merge(right);
+
+        assertEquals(3, left.size());
+        assertEquals(List.of(9, 8, 7), left.toSortedList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.villanidev.atsmatchingengine.matching.scoring;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.domain.Options;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MatchingScoringServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsOneMatchTimerPerCallAndSkipsMemoizedRelevances() {
+        MatchingScoringService scoringService = new MatchingScoringService(registry, 1);
+        ScoringContext context = scoringService.newContext(MatchProfile.of(cv()), job());
+
+        scoringService.buildMeta(context, new Options(), 0.5);
+        scoringService.buildMeta(context, new Options(), 0.5);
+
+        assertEquals(2, registry.get("matching.score").timer().count());
+        assertEquals(2, scorerCount("skills"));
+        assertEquals(2, scorerCount("soft_skills"));
+        assertEquals(1, scorerCount("experience_relevance"));
+        assertEquals(0, scorerCount("text_relevance"));
+    }
+
+    @Test
+    void recordsNoScorerBreakdownOutsideTheSample() {
+        MatchingScoringService scoringService = new MatchingScoringService(registry, Integer.MAX_VALUE);
+
+        scoringService.buildMeta(MatchProfile.of(cv()), job(), new Options(), 0.5);
+
+        assertEquals(1, registry.get("matching.score").timer().count());
+        assertEquals(0, scorerCount("skills"));
+    }
+
+    private long scorerCount(String scorer) {
+        return registry.get("matching.scorer").tag("scorer", scorer).timer().count();
+    }
+
+    private static CvMaster cv() {
+        CvMaster.Skill skill = new CvMaster.Skill();
+        skill.setName("Java");
+        CvMaster.Project project = new CvMaster.Project();
+        project.setTechStack(List.of("Java"));
+        CvMaster.Experience experience = new CvMaster.Experience();
+        experience.setStart("2020-01");
+        experience.setEnd("present");
+        experience.setProjects(List.of(project));
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setSkills(List.of(skill));
+        cvMaster.setExperiences(List.of(experience));
+        return cvMaster;
+    }
+
+    private static Job job() {
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setMustHaveSkills(List.of("Java"));
+        Job job = new Job();
+        job.setTitle("Engineer");
+        job.setRequirements(requirements);
+        return job;
+    }
+}
@@ -0,0 +1,59 @@
+package com.villanidev.atsmatchingengine.matching.scoring;
+
+import com.villanidev.atsmatchingengine.domain.CvMaster;
+import com.villanidev.atsmatchingengine.domain.Job;
+import com.villanidev.atsmatchingengine.matching.profile.MatchProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ScoringContextTest {
+
+    @Test
+    void memoizesRelevancesAndMatchedSkills() {
+        CvMaster cvMaster = new CvMaster();
+        cvMaster.setSkills(List.of(skill("Java"), skill("Kafka"), skill("Go")));
+        CvMaster.Experience recent = experience("2022-01", "present", List.of("Java", "Kafka"));
+        CvMaster.Experience older = experience("2015-01", "2017-06", List.of("Go"));
+        cvMaster.setExperiences(List.of(recent, older));
+
+        Job job = new Job();
+        Job.Requirements requirements = new Job.Requirements();
+        requirements.setMustHaveSkills(List.of("Kafka", "Java"));
+        requirements.setNiceToHaveSkills(List.of("Java"));
+        job.setRequirements(requirements);
+
+        MatchingScoringService scoringService = new MatchingScoringService();
+        MatchProfile profile = MatchProfile.of(cvMaster);
+        ScoringContext context = scoringService.newContext(profile, job);
+
+        double[] relevances = context.getExperienceRelevances();
+        ExperienceScorer scorer = scoringService.getExperienceScorer();
+        assertArrayEquals(new double[]{
+                scorer.computeExperienceRelevance(profile.getExperiences().get(0), job),
+                scorer.computeExperienceRelevance(profile.getExperiences().get(1), job)
+        }, relevances, 1e-9);
+        assertSame(relevances, context.getExperienceRelevances());
+        assertEquals(List.of("Kafka", "Java"), context.getMatchedSkills());
+    }
+
+    private CvMaster.Skill skill(String name) {
+        CvMaster.Skill skill = new CvMaster.Skill();
+        skill.setName(name);
+        return skill;
+    }
+
+    private CvMaster.Experience experience(String start, String end, List<String> techStack) {
+        CvMaster.Project project = new CvMaster.Project();
+        project.setTechStack(techStack);
+        CvMaster.Experience experience = new CvMaster.Experience();
+        experience.setStart(start);
+        experience.setEnd(end);
+        experience.setProjects(List.of(project));
+        return experience;
+    }
+}
@@ -0,0 +1,40 @@
+package com.villanidev.atsmatchingengine.rendering;
+
+import com.villanidev.atsmatchingengine.rendering.MarkdownLines.LineStyle;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfDocumentRendererTest {
+
+    private final PdfDocumentRenderer renderer = new PdfDocumentRenderer();
+
+    @Test
+    void wrapsByGlyphWidthWithoutDroppingText() {
+        PdfDocumentRenderer.PdfStyle style = PdfDocumentRenderer.styleOf(LineStyle.BODY);
+        String text = "Built event driven pipelines ".repeat(20) + "x".repeat(200);
+
+        List<String> lines = renderer.wrap(text, style);
+
+        assertTrue(lines.size() > 1);
+        float limit = renderer.lineWidth();
+        for (String line : lines) {
+            assertTrue(FontMetrics.of(style.font()).width(line, 0, line.length(), style.fontSize()) <= limit);
+        }
+        assertEquals(text.replace(" ", ""), String.join("", lines).replace(" ", ""));
+    }
+
+    @Test
+    void writesPdfToStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        renderer.render(MarkdownLines.parse("# Jane Doe\n\n## Experience\n- Shipped **things**\n"), out);
+
+        assertTrue(new String(out.toByteArray(), 0, 5, StandardCharsets.US_ASCII).startsWith("%PDF"));
+    }
+}
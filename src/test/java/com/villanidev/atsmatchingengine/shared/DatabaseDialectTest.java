@@ -0,0 +1,38 @@
+package com.villanidev.atsmatchingengine.shared;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DatabaseDialectTest {
+
+    @Test
+    void retriesAfterAFailedLookupAndClosesTheConnection() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(dataSource.getConnection())
+                .thenThrow(new SQLException("database starting up"))
+                .thenReturn(connection);
+        DatabaseDialect dialect = new DatabaseDialect(dataSource);
+
+        assertThrows(RuntimeException.class, dialect::isPostgres);
+        assertTrue(dialect.isPostgres());
+        assertTrue(dialect.isPostgres());
+
+        verify(dataSource, times(2)).getConnection();
+        verify(connection).close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.villanidev.atsmatchingengine.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SkillDictionaryTest {
+
+    @Test
+    void requirementLookupsDoNotGrowTheDictionary() {
+        SkillDictionary dictionary = new SkillDictionary(10);
+        int java = dictionary.idOf("Java");
+
+        int[] ids = dictionary.idsOf(List.of("java", "some scraped requirement sentence"));
+
+        assertArrayEquals(new int[] {java, SkillDictionary.UNKNOWN}, ids);
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    void stopsInterningAtMaxEntriesButKeepsExistingIds() {
+        SkillDictionary dictionary = new SkillDictionary(2);
+        int java = dictionary.idOf("Java");
+        int kafka = dictionary.idOf("Kafka");
+
+        assertEquals(SkillDictionary.UNKNOWN, dictionary.idOf("Go"));
+        assertEquals(java, dictionary.idOf("java"));
+        assertEquals(kafka, dictionary.lookup("kafka"));
+        assertNotEquals(java, kafka);
+        assertEquals(2, dictionary.size());
+    }
+}
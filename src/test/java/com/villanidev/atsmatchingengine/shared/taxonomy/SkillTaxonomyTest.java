@@ -0,0 +1,47 @@
+package com.villanidev.atsmatchingengine.shared.taxonomy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.villanidev.atsmatchingengine.matching.scoring.SkillCoverageCalculator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SkillTaxonomyTest {
+
+    @Test
+    void resolvesAliasesAndTransitiveParents() throws IOException {
+        SkillTaxonomy taxonomy = parse("""
+                {"skills": [
+                  {"id": "Java"},
+                  {"id": "Spring", "parents": ["java"]},
+                  {"id": "Spring Boot", "aliases": ["springboot"], "parents": ["spring"]},
+                  {"id": "a", "parents": ["b"]},
+                  {"id": "b", "parents": ["a"]}
+                ]}
+                """);
+
+        assertEquals("spring boot", taxonomy.canonicalize("springboot"));
+        assertEquals("unknown", taxonomy.canonicalize("unknown"));
+        assertEquals(List.of("spring", "java"), taxonomy.ancestorsOf("spring boot"));
+        assertEquals(List.of("b"), taxonomy.ancestorsOf("a"));
+    }
+
+    @Test
+    void coverageMatchesSynonymsAndParentSkills() {
+        SkillCoverageCalculator calculator = new SkillCoverageCalculator();
+
+        assertEquals(1.0, calculator.computeCoverage(Set.of("K8s", "Postgres"), List.of("Kubernetes", "PostgreSQL")));
+        assertEquals(1.0, calculator.computeCoverage(Set.of("Spring Boot"), List.of("Java", "Spring")));
+        assertEquals(0.0, calculator.computeCoverage(Set.of("Java"), List.of("Spring Boot")));
+    }
+
+    private SkillTaxonomy parse(String json) throws IOException {
+        return SkillTaxonomy.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), new ObjectMapper());
+    }
+}
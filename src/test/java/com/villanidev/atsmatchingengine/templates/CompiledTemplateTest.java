@@ -0,0 +1,34 @@
+package com.villanidev.atsmatchingengine.templates;
+
+import com.villanidev.atsmatchingengine.domain.CvGenerated;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledTemplateTest {
+
+    @Test
+    void rendersSectionsLikeTheDefaultTemplate() {
+        CvGenerated cv = new CvGenerated();
+        CvGenerated.Header header = new CvGenerated.Header();
+        header.setName("Jane Doe");
+        header.setEmail("jane@example.com");
+        cv.setHeader(header);
+        cv.setSummary(List.of("Backend engineer"));
+
+        CompiledTemplate compiled = CompiledTemplate.compile("full",
+                "{{header}}{{summary}}{{skills}}{{experience}}{{education}}{{languages}}");
+        CompiledTemplate custom = CompiledTemplate.compile("short", "# {{ name }} - {{title}}\n{{contact}}\n");
+
+        assertEquals(new DefaultMarkdownTemplate().renderMarkdown(cv), compiled.renderMarkdown(cv));
+        assertEquals("# Jane Doe - Professional\nEmail: jane@example.com\n", custom.renderMarkdown(cv));
+    }
+
+    @Test
+    void rejectsUnknownPlaceholders() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("bad", "{{salary}}"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.villanidev.atsmatchingengine.web;
+
+import com.villanidev.atsmatchingengine.elt.EltStage;
+import com.villanidev.atsmatchingengine.elt.orchestration.EltExecution;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EltStageBreakdownTest {
+
+    @Test
+    void scalesStagesAgainstRunTotalAndSlowestRun() {
+        EltExecution slow = execution(1L, 600L, 200L, 200L);
+        EltExecution fast = execution(2L, 100L, 50L, null);
+
+        List<EltStageBreakdown> trend = EltStageBreakdown.of(List.of(slow, fast));
+
+        EltStageBreakdown first = trend.get(0);
+        assertEquals(1000L, first.getTotalMs());
+        assertEquals(3, first.getStages().size());
+        assertEquals(EltStage.EXTRACT, first.getStages().get(0).getStage());
+        assertEquals(60.0, first.getStages().get(0).getSharePercent(), 1e-9);
+        assertEquals(60.0, first.getStages().get(0).getWidthPercent(), 1e-9);
+
+        EltStageBreakdown second = trend.get(1);
+        assertEquals(150L, second.getTotalMs());
+        assertEquals(2, second.getStages().size());
+        assertEquals(10.0, second.getStages().get(0).getWidthPercent(), 1e-9);
+    }
+
+    private EltExecution execution(Long id, Long extractMs, Long loadMs, Long normalizeMs) {
+        EltExecution execution = new EltExecution();
+        execution.setId(id);
+        execution.setExtractDurationMs(extractMs);
+        execution.setLoadDurationMs(loadMs);
+        execution.setNormalizeDurationMs(normalizeMs);
+        return execution;
+    }
+}